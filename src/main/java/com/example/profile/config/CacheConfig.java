@@ -1,28 +1,68 @@
 package com.example.profile.config;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 @Configuration
 @Profile("!local")
 public class CacheConfig {
 
+    @Value("${app.cache.l1.ttl:10m}")
+    private Duration l1Ttl;
+
+    @Value("${app.cache.l1.max-size:500}")
+    private long l1MaxSize;
+
+    // 캐시 미스 시 한 노드만 로딩하도록 잡는 Redis 리스의 최대 유지 시간 (로딩이 이보다 길면 다른 노드도 로딩)
+    @Value("${app.cache.lease.ttl:10s}")
+    private Duration leaseTtl;
+
+    // 포트폴리오 스냅샷 저장 형식 (binary | json)
+    @Value("${app.cache.portfolio.format:binary}")
+    private PortfolioSnapshotRedisSerializer.Format portfolioFormat;
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            StringRedisTemplate redisTemplate,
+                                            MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(redisCacheManager(redisConnectionFactory), redisTemplate, meterRegistry, l1Ttl, l1MaxSize, leaseTtl);
+    }
+
+    // 다른 노드에서 발생한 캐시 변경을 수신하여 이 노드의 L1 사본을 버림
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    // L2: 기존 Redis 캐시 설정 그대로
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
 
         // 1. 커스텀 ObjectMapper 생성
         ObjectMapper objectMapper = new ObjectMapper();
@@ -48,8 +88,22 @@ public class CacheConfig {
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer)); // 수정된 Serializer 적용
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        // 6. 공개 포트폴리오 스냅샷은 타입이 고정되어 있으므로 클래스 정보 없이 전용 바이너리 Serializer로 저장
+        ObjectMapper snapshotMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        //    (기존 ProfileWrapper 형식과 섞이지 않도록 키 접두사도 분리)
+        RedisCacheConfiguration portfolioConfiguration = configuration
+                .computePrefixWith(cacheName -> cacheName + ":snapshot::")
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new PortfolioSnapshotRedisSerializer(snapshotMapper, portfolioFormat)));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(configuration)
+                .withCacheConfiguration("portfolio", portfolioConfiguration)
                 .build();
+        redisCacheManager.initializeCaches(); // Bean이 아니므로 캐시별 설정을 직접 로딩
+        return redisCacheManager;
     }
 }
@@ -0,0 +1,43 @@
+package com.example.profile.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+// 챗봇 SSE 쓰기 전용 스레드 풀
+// WebClient 응답은 Netty 이벤트 루프 스레드에서 흘러나오므로, 그 스레드에서 바로 emitter.send()를 하면
+// 느린 브라우저 하나가 같은 이벤트 루프를 쓰는 다른 모든 업스트림 스트림까지 멈춰 세움
+// publishOn(scheduler, SSE_PREFETCH)로 스트림마다 작은 버퍼를 두고 쓰기를 이 풀로 넘김
+// (버퍼가 차면 더 요청하지 않고, ChatBulkhead가 이 요청량을 WebClient 스트림까지 그대로 넘기므로 TCP 수준까지 배압이 전달됨)
+// 가상 스레드 모드에서는 쓰기마다 가상 스레드를 써서 느린 클라이언트가 플랫폼 스레드를 붙잡지 않게 함
+@Configuration
+public class ChatStreamConfig {
+
+    // 스트림당 버퍼링할 최대 이벤트 수
+    public static final int SSE_PREFETCH = 32;
+
+    @Value("${app.chat.sse.writer-threads:64}")
+    private int writerThreads;
+
+    @Value("${app.chat.sse.writer-queue:10000}")
+    private int writerQueue;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler chatSseScheduler() {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "chat-sse-writer");
+        }
+        return newSseScheduler(writerThreads, writerQueue);
+    }
+
+    public static Scheduler newSseScheduler(int threads, int queuedTasks) {
+        return Schedulers.newBoundedElastic(threads, queuedTasks, "chat-sse-writer");
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.profile.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+// 요청 제한/대기열에서 클라이언트를 구분하는 키
+// X-Forwarded-For는 클라이언트가 마음대로 채울 수 있으므로 직접 읽지 않음 (요청마다 다른 값을 넣어 IP별 제한/대기열을 우회)
+// 프록시 뒤에서는 server.forward-headers-strategy=native(Tomcat RemoteIpValve)가 신뢰하는 프록시
+// (server.tomcat.remoteip.internal-proxies, 기본값은 사설/루프백 대역)가 붙인 주소만 오른쪽부터 걷어내고
+// 그 바로 앞 주소를 remoteAddr로 바꿔 주므로 여기서는 remoteAddr만 사용 (Dockerfile의 SERVER_FORWARD_HEADERS_STRATEGY)
+@Component
+public class ClientIpResolver {
+
+    public String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.profile.config;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// 원본 + gzip + brotli 세 가지 표현을 한 번에 만들어 보관 (압축 비용은 버전당 한 번만)
+@Slf4j
+@Getter
+public class CompressedContent {
+
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private static final boolean BROTLI_AVAILABLE = loadBrotli();
+
+    // 압축은 버전/리소스당 첫 요청 스레드에서 일어나므로 최고 품질(11) 대신 빠른 단계를 사용
+    // (5 정도면 gzip보다 작으면서 압축 시간은 수십 분의 일)
+    private static final int BROTLI_QUALITY = 5;
+
+    private final byte[] identity;
+    private final byte[] gzip;   // 압축 효과가 없으면 null
+    private final byte[] brotli; // 네이티브 라이브러리가 없거나 압축 효과가 없으면 null
+
+    private CompressedContent(byte[] identity, byte[] gzip, byte[] brotli) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.brotli = brotli;
+    }
+
+    public static CompressedContent of(byte[] identity) {
+        return new CompressedContent(identity,
+                smallerOrNull(identity, gzip(identity)),
+                BROTLI_AVAILABLE ? smallerOrNull(identity, brotli(identity)) : null);
+    }
+
+    // Accept-Encoding 헤더를 보고 내려줄 표현을 선택 (br > gzip > 원본)
+    public Variant select(String acceptEncoding) {
+        if (acceptEncoding != null) {
+            if (brotli != null && accepts(acceptEncoding, BROTLI)) {
+                return new Variant(BROTLI, brotli);
+            }
+            if (gzip != null && accepts(acceptEncoding, GZIP)) {
+                return new Variant(GZIP, gzip);
+            }
+        }
+        return new Variant(null, identity);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Variant {
+        private final String encoding; // null이면 원본
+        private final byte[] body;
+
+        public boolean isEncoded() {
+            return encoding != null;
+        }
+    }
+
+    // "gzip, deflate, br;q=0.9" 형식 파싱 (q=0 은 거부로 취급)
+    // 이름이 직접 나오면 그 항목을, 없으면 "*" 항목을 따름
+    static boolean accepts(String acceptEncoding, String coding) {
+        Double wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim();
+            if (name.equalsIgnoreCase(coding)) {
+                return quality(tokens) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = quality(tokens);
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+
+    private static double quality(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] smallerOrNull(byte[] identity, byte[] compressed) {
+        return compressed != null && compressed.length < identity.length ? compressed : null;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length / 3 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] data) {
+        try {
+            return Encoder.compress(data, new Encoder.Parameters().setQuality(BROTLI_QUALITY));
+        } catch (IOException e) {
+            log.warn("Brotli compression failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean loadBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            // 네이티브 라이브러리가 없는 플랫폼에서는 gzip만 제공
+            log.info("Brotli unavailable, serving gzip only: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.profile.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Hibernate JDBC 배치 설정 (외부 설정 파일이 없어도 적용되도록 기본값은 코드에 둠)
+// ID를 시퀀스(pooled, allocationSize=50)로 받기 때문에 INSERT도 배치로 묶임
+@Configuration
+public class JpaConfig {
+
+    @Value("${app.jpa.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            // 같은 테이블의 INSERT/UPDATE를 모아야 배치가 끊기지 않음 (Company -> Project -> Meta ... 순서로 섞여 들어오므로)
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+            properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", true);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.profile.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 노드 메모리 안에서 동작하는 요청 제한기 (로컬 환경 + 운영에서 Redis 장애 시 대체용)
+// - 키마다 AtomicLong 하나에 (창 번호, 직전 창 횟수, 현재 창 횟수)를 담아 CAS로 갱신 (락 없음)
+// - 직전 창 횟수를 경과 비율만큼 가중해 더하는 sliding window 근사라 창 경계의 2배 버스트가 없음
+// - 키 저장소는 Caffeine: 최대 개수를 넘으면 W-TinyLFU로 자주 오는 키(제한 중인 클라이언트 등)를 남기고,
+//   두 창 동안 요청이 없는 키는 만료 (IP를 바꿔 가며 몰려와도 요청당 비용이 일정하고 다른 키의 제한이 풀리지 않음)
+@Slf4j
+@Component
+public class LocalRateLimiter {
+
+    static final int MAX_COUNT = 0xFFFF;
+    // 창 번호를 32bit에 담으므로 너무 짧은 창은 받지 않음 (RateLimitProperties 검증과 같은 하한)
+    static final long MIN_WINDOW_MILLIS = 1000;
+
+    private final Ticker ticker;
+    private final long origin; // 창 번호 기준 시각 (nanoTime은 음수일 수 있으므로 생성 시점부터 셈)
+    private final Cache<String, Window> windows;
+
+    @Autowired
+    public LocalRateLimiter(@Value("${app.rate-limit.local.max-entries:100000}") long maxEntries) {
+        this(maxEntries, Ticker.systemTicker());
+    }
+
+    LocalRateLimiter(long maxEntries, Ticker ticker) {
+        this.ticker = ticker;
+        this.origin = ticker.read();
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new IdleExpiry())
+                .ticker(ticker)
+                .build();
+    }
+
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        long windowMillis = window.toMillis();
+        if (windowMillis < MIN_WINDOW_MILLIS) {
+            throw new IllegalArgumentException("Rate limit window must be at least " + MIN_WINDOW_MILLIS + " ms: " + window);
+        }
+        Window w = windows.get(key, k -> new Window(windowMillis));
+        return w.tryAcquire(limit, nowMillis());
+    }
+
+    // 만료/초과 키 정리는 Caffeine이 요청 처리 중에도 조금씩 하지만, 요청이 끊긴 뒤에도 메모리를 돌려받도록 주기적으로 실행
+    @Scheduled(fixedDelayString = "${app.rate-limit.local.sweep-interval:30s}")
+    public void sweep() {
+        long before = windows.estimatedSize();
+        windows.cleanUp();
+        long after = windows.estimatedSize();
+        if (after < before) {
+            log.debug("Local rate limit sweep removed {} keys ({} left)", before - after, after);
+        }
+    }
+
+    public long size() {
+        return windows.estimatedSize();
+    }
+
+    private long nowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(ticker.read() - origin);
+    }
+
+    // 마지막 요청 후 두 창이 지나면 sliding 근사에 더 이상 영향이 없으므로 만료
+    private static class IdleExpiry implements Expiry<String, Window> {
+
+        @Override
+        public long expireAfterCreate(String key, Window w, long currentTime) {
+            return w.idleNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Window w, long currentTime, long currentDuration) {
+            return w.idleNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Window w, long currentTime, long currentDuration) {
+            return w.idleNanos;
+        }
+    }
+
+    static class Window {
+
+        private final long windowMillis;
+        private final long idleNanos;
+        // [창 번호 32bit][직전 창 횟수 16bit][현재 창 횟수 16bit]
+        private final AtomicLong state = new AtomicLong();
+
+        Window(long windowMillis) {
+            this.windowMillis = windowMillis;
+            this.idleNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis * 2);
+        }
+
+        RateLimitDecision tryAcquire(int limit, long now) {
+            long index = (now / windowMillis) & 0xFFFF_FFFFL;
+            long intoWindow = now % windowMillis;
+            double previousWeight = 1 - (double) intoWindow / windowMillis;
+            while (true) {
+                long s = state.get();
+                long stateIndex = s >>> 32;
+                int previous = (int) ((s >>> 16) & MAX_COUNT);
+                int current = (int) (s & MAX_COUNT);
+                if (stateIndex != index) {
+                    previous = stateIndex == index - 1 ? current : 0;
+                    current = 0;
+                }
+
+                double estimate = previous * previousWeight + current;
+                boolean allowed = estimate + 1 <= limit;
+                int nextCurrent = allowed ? Math.min(current + 1, MAX_COUNT) : current;
+                long next = (index << 32) | ((long) previous << 16) | nextCurrent;
+                if (state.compareAndSet(s, next)) {
+                    long remaining = Math.max(0, (long) Math.floor(limit - estimate - (allowed ? 1 : 0)));
+                    return new RateLimitDecision(allowed, limit, remaining, windowMillis - intoWindow);
+                }
+            }
+        }
+    }
+}
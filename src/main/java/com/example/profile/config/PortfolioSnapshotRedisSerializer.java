@@ -0,0 +1,261 @@
+package com.example.profile.config;
+
+import com.example.profile.dto.*;
+import com.example.profile.model.SectionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// 공개 포트폴리오 스냅샷 전용 Redis Serializer
+// - BINARY: [MAGIC][SCHEMA_VERSION][필드...] 형태의 고정 순서 바이너리 (클래스명/필드명 없음)
+// - JSON  : 디버깅용 (redis-cli로 내용을 바로 확인하고 싶을 때 app.cache.portfolio.format=json)
+// 읽을 때는 첫 바이트로 형식을 판별하므로 설정을 바꿔도 기존 엔트리를 그대로 읽을 수 있음
+public class PortfolioSnapshotRedisSerializer implements RedisSerializer<ProfileResponseDTO> {
+
+    public enum Format { BINARY, JSON }
+
+    static final byte MAGIC = (byte) 0xB7;
+    // 필드 구성/순서가 바뀌면 반드시 올릴 것 (이전 버전 엔트리는 캐시 미스로 처리되어 재생성됨)
+    static final byte SCHEMA_VERSION = 2;
+
+    private final ObjectMapper objectMapper;
+    private final Format format;
+
+    public PortfolioSnapshotRedisSerializer(ObjectMapper objectMapper, Format format) {
+        this.objectMapper = objectMapper;
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(ProfileResponseDTO value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (format == Format.JSON) {
+                return objectMapper.writeValueAsBytes(value);
+            }
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeByte(MAGIC);
+            out.writeByte(SCHEMA_VERSION);
+            writeProfile(out, value);
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write portfolio snapshot", e);
+        }
+    }
+
+    @Override
+    public ProfileResponseDTO deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (bytes[0] != MAGIC) {
+                return objectMapper.readValue(bytes, ProfileResponseDTO.class); // JSON 형식
+            }
+            if (bytes.length < 2 || bytes[1] != SCHEMA_VERSION) {
+                return null; // 다른 스키마 버전 -> 캐시 미스로 취급
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2));
+            return readProfile(in);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read portfolio snapshot", e);
+        }
+    }
+
+    // =================================================================================
+    // 쓰기 (필드 순서 = 스키마)
+    // =================================================================================
+
+    private void writeProfile(DataOutputStream out, ProfileResponseDTO p) throws IOException {
+        out.writeBoolean(p.getProfileId() != null);
+        if (p.getProfileId() != null) out.writeLong(p.getProfileId());
+        writeString(out, p.getVersion());
+        out.writeBoolean(p.getBuiltAt() != null);
+        if (p.getBuiltAt() != null) out.writeLong(p.getBuiltAt());
+        writeString(out, p.getFullName());
+        writeString(out, p.getJobTitle());
+        writeString(out, p.getEmail());
+        writeString(out, p.getPhone());
+        writeString(out, p.getGithub());
+        writeString(out, p.getAboutParagraph());
+
+        writeList(out, p.getSections(), (o, s) -> {
+            writeString(o, s.getSectionType() != null ? s.getSectionType().name() : null);
+            writeString(o, s.getSectionName());
+        });
+        writeList(out, p.getKeyRoles(), (o, r) -> writeString(o, r.getRoleContent()));
+        writeList(out, p.getSkillCategories(), (o, c) -> {
+            writeString(o, c.getName());
+            writeList(o, c.getSkills(), PortfolioSnapshotRedisSerializer::writeString);
+        });
+        writeList(out, p.getProjectGroups(), (o, g) -> {
+            writeString(o, g.getGroupName());
+            writeString(o, g.getGroupType());
+            writeList(o, g.getProjects(), (o2, proj) -> {
+                writeString(o2, proj.getTitle());
+                writeList(o2, proj.getProjectItems(), (o3, item) -> {
+                    writeString(o3, item.getItemType());
+                    writeString(o3, item.getContent());
+                    writeList(o3, item.getTechStacks(), PortfolioSnapshotRedisSerializer::writeString);
+                    writeList(o3, item.getProblems(), (o4, prob) -> {
+                        writeString(o4, prob.getTitle());
+                        writeList(o4, prob.getSolutions(), PortfolioSnapshotRedisSerializer::writeString);
+                        writeList(o4, prob.getImpacts(), PortfolioSnapshotRedisSerializer::writeString);
+                    });
+                });
+            });
+        });
+        writeList(out, p.getEducations(), (o, e) -> {
+            writeString(o, e.getInstitution());
+            writeString(o, e.getPeriod());
+            writeString(o, e.getMajor());
+            writeString(o, e.getGpa());
+            writeString(o, e.getAdditionalInfo());
+        });
+        writeList(out, p.getCertifications(), (o, c) -> {
+            writeString(o, c.getName());
+            writeString(o, c.getIssueDate());
+            writeString(o, c.getAdditionalInfo());
+        });
+    }
+
+    // =================================================================================
+    // 읽기 (writeProfile과 같은 순서)
+    // =================================================================================
+
+    private ProfileResponseDTO readProfile(DataInputStream in) throws IOException {
+        ProfileResponseDTO.ProfileResponseDTOBuilder b = ProfileResponseDTO.builder();
+        b.profileId(in.readBoolean() ? in.readLong() : null);
+        b.version(readString(in));
+        b.builtAt(in.readBoolean() ? in.readLong() : null);
+        b.fullName(readString(in));
+        b.jobTitle(readString(in));
+        b.email(readString(in));
+        b.phone(readString(in));
+        b.github(readString(in));
+        b.aboutParagraph(readString(in));
+
+        b.sections(readList(in, i -> {
+            String type = readString(i);
+            return SectionDTO.builder()
+                    .sectionType(type != null ? SectionType.valueOf(type) : null)
+                    .sectionName(readString(i))
+                    .build();
+        }));
+        b.keyRoles(readList(in, i -> KeyRoleDTO.builder().roleContent(readString(i)).build()));
+        b.skillCategories(readList(in, i -> SkillCategoryDTO.builder()
+                .name(readString(i))
+                .skills(readList(i, PortfolioSnapshotRedisSerializer::readString))
+                .build()));
+        b.projectGroups(readList(in, i -> ProjectGroupDTO.builder()
+                .groupName(readString(i))
+                .groupType(readString(i))
+                .projects(readList(i, i2 -> ProjectDTO.builder()
+                        .title(readString(i2))
+                        .projectItems(readList(i2, i3 -> ProjectItemDTO.builder()
+                                .itemType(readString(i3))
+                                .content(readString(i3))
+                                .techStacks(readList(i3, PortfolioSnapshotRedisSerializer::readString))
+                                .problems(readList(i3, i4 -> ProblemDTO.builder()
+                                        .title(readString(i4))
+                                        .solutions(readList(i4, PortfolioSnapshotRedisSerializer::readString))
+                                        .impacts(readList(i4, PortfolioSnapshotRedisSerializer::readString))
+                                        .build()))
+                                .build()))
+                        .build()))
+                .build()));
+        b.educations(readList(in, i -> EducationDTO.builder()
+                .institution(readString(i))
+                .period(readString(i))
+                .major(readString(i))
+                .gpa(readString(i))
+                .additionalInfo(readString(i))
+                .build()));
+        b.certifications(readList(in, i -> CertificationDTO.builder()
+                .name(readString(i))
+                .issueDate(readString(i))
+                .additionalInfo(readString(i))
+                .build()));
+        return b.build();
+    }
+
+    // =================================================================================
+    // 기본 인코딩: 가변 길이 정수 + UTF-8 (null은 길이 0, 그 외는 길이+1)
+    // =================================================================================
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(DataOutputStream out, T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    private static <T> void writeList(DataOutputStream out, List<T> list, Writer<T> writer) throws IOException {
+        int size = list != null ? list.size() : 0;
+        writeVarInt(out, size);
+        for (int i = 0; i < size; i++) {
+            writer.write(out, list.get(i));
+        }
+    }
+
+    private static <T> List<T> readList(DataInputStream in, Reader<T> reader) throws IOException {
+        int size = readVarInt(in);
+        List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(reader.read(in));
+        }
+        return list;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.profile.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+
+// 운영 DB(PostgreSQL)에 코드가 기대하는 스키마 객체를 맞춰두는 초기화기
+// EntityManagerFactory(= Hibernate 스키마 처리) 이후, 웹 서버가 요청을 받기 전에 실행됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresSchemaInitializer implements InitializingBean {
+
+    // 테이블 -> ID 시퀀스 (엔티티의 @SequenceGenerator와 맞출 것)
+    static final Map<String, String> ID_SEQUENCES = Map.ofEntries(
+            Map.entry("profile_master", "profile_master_seq"),
+            Map.entry("resume_config", "resume_config_seq"),
+            Map.entry("resume_section", "resume_section_seq"),
+            Map.entry("key_role", "key_role_seq"),
+            Map.entry("skill_category", "skill_category_seq"),
+            Map.entry("skill_set", "skill_set_seq"),
+            Map.entry("company", "company_seq"),
+            Map.entry("project_master", "project_master_seq"),
+            Map.entry("project_meta", "project_meta_seq"),
+            Map.entry("project_tech_stack", "project_tech_stack_seq"),
+            Map.entry("problem", "problem_seq"),
+            Map.entry("solution", "solution_seq"),
+            Map.entry("impact", "impact_seq"),
+            Map.entry("education", "education_seq"),
+            Map.entry("certification", "certification_seq"));
+
+    static final int ALLOCATION_SIZE = 50;
+
+    // 활성 이력서는 하나만 (is_active = true 인 행끼리만 유니크)
+    static final String SINGLE_ACTIVE_PROFILE_INDEX =
+            "CREATE UNIQUE INDEX IF NOT EXISTS ux_profile_master_single_active ON profile_master (is_active) WHERE is_active";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 처리 이후에 실행되도록 의존성만 걸어둠
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        if (!"PostgreSQL".equals(product)) {
+            return; // 테스트(H2) 등은 Hibernate가 만든 스키마 그대로 사용
+        }
+        alignIdSequences();
+        createSingleActiveProfileIndex();
+    }
+
+    // IDENTITY -> SEQUENCE 전환: 기존 데이터의 최대 ID 뒤에서부터 발급되도록 시퀀스 위치를 맞춤
+    // (GREATEST로 이미 앞서 있는 시퀀스는 되돌리지 않으므로 여러 노드가 동시에 떠도 안전)
+    private void alignIdSequences() {
+        ID_SEQUENCES.forEach((table, sequence) -> {
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " INCREMENT BY " + ALLOCATION_SIZE);
+            Long value = jdbcTemplate.queryForObject(
+                    "SELECT setval('" + sequence + "', GREATEST("
+                            + "(SELECT COALESCE(MAX(id), 0) FROM " + table + ") + " + ALLOCATION_SIZE + ", "
+                            + "(SELECT last_value FROM " + sequence + ")))",
+                    Long.class);
+            log.debug("ID sequence {} aligned to {}", sequence, value);
+        });
+        log.info("Aligned {} ID sequences (allocationSize={})", ID_SEQUENCES.size(), ALLOCATION_SIZE);
+    }
+
+    private void createSingleActiveProfileIndex() {
+        try {
+            jdbcTemplate.execute(SINGLE_ACTIVE_PROFILE_INDEX);
+        } catch (DataAccessException e) {
+            // 이미 활성 이력서가 여러 개인 경우: 관리자 화면에서 하나를 다시 활성화한 뒤 재시작하면 생성됨
+            log.warn("Could not create single-active-profile index: {}", e.getMessage());
+        }
+    }
+}
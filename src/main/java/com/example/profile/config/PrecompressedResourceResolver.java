@@ -0,0 +1,134 @@
+package com.example.profile.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 정적 텍스트 리소스(css/js 등)의 gzip/brotli 표현을 리소스당 한 번만 만들어 메모리에 보관하고,
+// 요청의 Accept-Encoding에 맞는 표현을 Content-Encoding 헤더와 함께 내려줌
+@Slf4j
+public class PrecompressedResourceResolver extends AbstractResourceResolver {
+
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of("css", "js", "html", "svg", "json", "txt", "map");
+
+    // 원본 리소스(description) -> (원본 수정 시각, 압축 표현), 핸들러 간 같은 파일명이 있어도 구분됨
+    private final Map<String, Entry> variants = new ConcurrentHashMap<>();
+
+    private record Entry(long lastModified, CompressedContent content) {
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource == null || request == null || !isCompressible(resource)) {
+            return resource;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return resource;
+        }
+
+        try {
+            CompressedContent.Variant variant = load(resource).select(acceptEncoding);
+            return variant.isEncoded() ? new EncodedResource(resource, variant) : resource;
+        } catch (IOException e) {
+            log.warn("Could not precompress [{}]: {}", requestPath, e.getMessage());
+            return resource;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    private CompressedContent load(Resource resource) throws IOException {
+        String key = resource.getDescription();
+        long lastModified = resource.lastModified();
+        Entry entry = variants.get(key);
+        if (entry == null || entry.lastModified() != lastModified) {
+            byte[] original;
+            try (InputStream in = resource.getInputStream()) {
+                original = StreamUtils.copyToByteArray(in);
+            }
+            entry = new Entry(lastModified, CompressedContent.of(original));
+            variants.put(key, entry);
+        }
+        return entry.content();
+    }
+
+    private boolean isCompressible(Resource resource) {
+        String filename = resource.getFilename();
+        if (filename == null) {
+            return false;
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 && COMPRESSIBLE_EXTENSIONS.contains(filename.substring(dot + 1).toLowerCase());
+    }
+
+    // 압축된 바이트를 원본 파일명(=Content-Type 판별용)과 함께 노출하는 리소스
+    private static class EncodedResource extends AbstractResource implements HttpResource {
+
+        private final Resource original;
+        private final CompressedContent.Variant variant;
+
+        EncodedResource(Resource original, CompressedContent.Variant variant) {
+            this.original = original;
+            this.variant = variant;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(variant.getBody());
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public long contentLength() {
+            return variant.getBody().length;
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return original.lastModified();
+        }
+
+        @Override
+        public String getFilename() {
+            return original.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return "Encoded [" + variant.getEncoding() + "] " + original.getDescription();
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(HttpHeaders.CONTENT_ENCODING, variant.getEncoding());
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            return headers;
+        }
+    }
+}
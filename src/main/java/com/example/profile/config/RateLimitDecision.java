@@ -0,0 +1,20 @@
+package com.example.profile.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 요청 한 건에 대한 제한 판정 결과 (RateLimit-* / Retry-After 헤더 값의 근거)
+@Getter
+@RequiredArgsConstructor
+public class RateLimitDecision {
+
+    private final boolean allowed;
+    private final int limit;
+    private final long remaining;
+    private final long resetMillis; // 남은 요청 수가 하나 이상 회복되기까지 걸리는 시간
+
+    // 헤더는 초 단위 정수 (0초로 내려가면 클라이언트가 바로 재시도하므로 올림)
+    public long resetSeconds() {
+        return Math.max(1, (resetMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.profile.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import jakarta.servlet.DispatcherType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// app.rate-limit.policies에 정의된 경로별 요청 제한 (RateLimitProperties 참고)
+// 경로 패턴은 기동 시 한 번만 파싱해 두고, 요청 경로에 걸리는 정책을 모두 평가 (하나라도 초과면 429)
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    // 운영 기본 제한기 (Redis 스크립트, Redis Bean이 없으면 null 판정을 돌려줌)
+    private final RedisSlidingWindowRateLimiter redisRateLimiter;
+    // 로컬 환경 + Redis 장애 시 대체용 인메모리 제한기 (노드 단위)
+    private final LocalRateLimiter localRateLimiter;
+    private final Environment env;
+    private final ClientIpResolver clientIpResolver;
+    private final List<CompiledPolicy> policies = new ArrayList<>();
+
+    // Redis 장애 구간 표시 (WARN은 Slack으로 가므로 장애 시작/복구 때 한 번씩만 기록)
+    private final AtomicBoolean redisUnavailable = new AtomicBoolean();
+    // 장애 중에는 요청마다 Redis 타임아웃을 기다리지 않도록 이 시각 전까지는 바로 인메모리로 판정
+    private final AtomicLong nextRedisProbeAt = new AtomicLong();
+
+    private static final long REDIS_PROBE_INTERVAL_MILLIS = 5000;
+
+    public RateLimitInterceptor(RedisSlidingWindowRateLimiter redisRateLimiter, LocalRateLimiter localRateLimiter,
+                                Environment env, ClientIpResolver clientIpResolver,
+                                RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.localRateLimiter = localRateLimiter;
+        this.env = env;
+        this.clientIpResolver = clientIpResolver;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            policies.add(new CompiledPolicy(policy, meterRegistry));
+        }
+    }
+
+    // WebConfig에서 인터셉터를 걸 경로 (정책 경로 전체)
+    public List<String> pathPatterns() {
+        return policies.stream().flatMap(p -> p.policy.getPaths().stream()).distinct().toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+
+        // 비동기(SSE) 통신으로 인한 2차 내부 호출일 경우, 중복 검사 없이 즉시 통과.
+        if (DispatcherType.ASYNC.equals(request.getDispatcherType())) {
+            return true;
+        }
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        boolean isLocal = isLocalProfile();
+
+        // 걸리는 정책 중 남은 횟수가 가장 적은 판정을 헤더로 알려줌 (초과된 정책이 있으면 그 판정)
+        CompiledPolicy reported = null;
+        RateLimitDecision reportedDecision = null;
+        for (CompiledPolicy policy : policies) {
+            if (!policy.matches(path)) continue;
+
+            String key = "rate_limit:" + policy.policy.getName() + ":" + resolveKey(policy.policy, request);
+            RateLimitDecision decision = decide(policy.policy, key, isLocal);
+            (decision.isAllowed() ? policy.allowed : policy.rejected).increment();
+
+            if (reportedDecision == null || !decision.isAllowed()
+                    || (reportedDecision.isAllowed() && decision.getRemaining() < reportedDecision.getRemaining())) {
+                reported = policy;
+                reportedDecision = decision;
+            }
+            if (!decision.isAllowed()) break;
+        }
+        if (reportedDecision == null) {
+            return true;
+        }
+
+        // 클라이언트가 남은 횟수/회복 시점을 보고 스스로 속도를 늦출 수 있도록 항상 헤더를 내려줌
+        response.setHeader("RateLimit-Policy", reported.policy.getLimit() + ";w=" + reported.policy.getWindow().toSeconds());
+        response.setHeader("RateLimit-Limit", String.valueOf(reportedDecision.getLimit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(reportedDecision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(reportedDecision.resetSeconds()));
+
+        // 컷아웃 논리 (초과 시)
+        if (!reportedDecision.isAllowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(reportedDecision.resetSeconds()));
+            response.setContentType("text/plain; charset=UTF-8");
+            response.getWriter().write("요청이 너무 많습니다. " + reportedDecision.resetSeconds() + "초 후에 다시 시도해주세요.");
+            return false;
+        }
+
+        return true;
+    }
+
+    // 쿠키/헤더 값이 없으면 IP로 대체 (값을 빼고 보내는 것으로 제한을 피하지 못하도록)
+    private String resolveKey(RateLimitProperties.Policy policy, HttpServletRequest request) {
+        String value = switch (policy.getKey()) {
+            case IP -> null;
+            case HEADER -> request.getHeader(policy.getKeyName());
+            case COOKIE -> cookieValue(request, policy.getKeyName());
+        };
+        return value != null && !value.isBlank() ? policy.getKey().name().toLowerCase() + ":" + value
+                : "ip:" + clientIpResolver.resolve(request);
+    }
+
+    private static String cookieValue(HttpServletRequest request, String name) {
+        if (request.getCookies() == null) return null;
+        for (Cookie cookie : request.getCookies()) {
+            if (cookie.getName().equals(name)) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    // 환경/알고리즘에 따른 트래픽 제어 분기점
+    private RateLimitDecision decide(RateLimitProperties.Policy policy, String key, boolean isLocal) {
+        if (isLocal || policy.getAlgorithm() == RateLimitProperties.Algorithm.LOCAL_SLIDING_WINDOW) {
+            return localRateLimiter.tryAcquire(key, policy.getLimit(), policy.getWindow());
+        }
+        return handleRedisRateLimit(policy, key);
+    }
+
+    // 현재 활성화된 프로필이 local인지 확인하는 검증 로직
+    private boolean isLocalProfile() {
+        for (String profile : env.getActiveProfiles()) {
+            if ("local".equalsIgnoreCase(profile)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 운영/개발 환경의 Redis 판정 로직 (sliding log, 스크립트 한 번으로 원자적 처리)
+    // Redis에 닿지 못하면 제한 없이 통과시키는 대신 노드별 인메모리 제한으로 대체
+    private RateLimitDecision handleRedisRateLimit(RateLimitProperties.Policy policy, String key) {
+        if (redisUnavailable.get() && System.currentTimeMillis() < nextRedisProbeAt.get()) {
+            return localRateLimiter.tryAcquire(key, policy.getLimit(), policy.getWindow());
+        }
+        try {
+            RateLimitDecision decision = redisRateLimiter.tryAcquire(key, policy.getLimit(), policy.getWindow());
+            if (decision != null) {
+                if (redisUnavailable.compareAndSet(true, false)) {
+                    log.info("Redis rate limiter recovered, leaving in-memory fallback");
+                }
+                return decision;
+            }
+            markRedisUnavailable("no StringRedisTemplate bean");
+        } catch (RuntimeException e) {
+            markRedisUnavailable(e.getMessage());
+        }
+        return localRateLimiter.tryAcquire(key, policy.getLimit(), policy.getWindow());
+    }
+
+    private void markRedisUnavailable(String reason) {
+        nextRedisProbeAt.set(System.currentTimeMillis() + REDIS_PROBE_INTERVAL_MILLIS);
+        if (redisUnavailable.compareAndSet(false, true)) {
+            log.warn("Redis rate limiter unavailable, falling back to per-node in-memory limits: {}", reason);
+        } else {
+            log.debug("Redis rate limiter still unavailable: {}", reason);
+        }
+    }
+
+    private static class CompiledPolicy {
+
+        private final RateLimitProperties.Policy policy;
+        private final List<PathPattern> patterns;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        CompiledPolicy(RateLimitProperties.Policy policy, MeterRegistry meterRegistry) {
+            this.policy = policy;
+            this.patterns = policy.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.allowed = decisionCounter(meterRegistry, policy.getName(), "allowed");
+            this.rejected = decisionCounter(meterRegistry, policy.getName(), "rejected");
+        }
+
+        boolean matches(PathContainer path) {
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) return true;
+            }
+            return false;
+        }
+
+        private static Counter decisionCounter(MeterRegistry registry, String policy, String result) {
+            return Counter.builder("rate.limit.decisions")
+                    .tag("policy", policy)
+                    .tag("result", result)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.profile.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 경로별 요청 제한 정책 (app.rate-limit.policies)
+// 외부 설정에 policies를 적으면 아래 기본 정책 목록 전체를 대체함
+//
+// app.rate-limit.policies:
+//   - name: chat
+//     paths: [/api/chat/**]
+//     key: ip                 # ip | cookie | header
+//     key-name:               # cookie/header 이름 (값이 없으면 IP로 대체)
+//     algorithm: sliding-log  # sliding-log(Redis, 장애 시 인메모리) | local-sliding-window(노드별 인메모리)
+//     limit: 5
+//     window: 1m
+// 잘못된 정책(이름/경로 누락, limit 0, 1초 미만 창 등)은 기동 시 검증 오류로 막음
+// policies: [] 로 비우면 요청 제한을 끔
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    @NotNull
+    private List<@Valid Policy> policies = defaultPolicies();
+
+    public enum KeyType { IP, COOKIE, HEADER }
+
+    public enum Algorithm { SLIDING_LOG, LOCAL_SLIDING_WINDOW }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Policy {
+        @NotBlank
+        private String name;
+        @NotEmpty
+        private List<@NotBlank String> paths = new ArrayList<>();
+        @NotNull
+        private KeyType key = KeyType.IP;
+        private String keyName;
+        @NotNull
+        private Algorithm algorithm = Algorithm.SLIDING_LOG;
+        @Positive
+        private int limit;
+        @NotNull
+        @DurationMin(seconds = 1)
+        private Duration window = Duration.ofMinutes(1);
+
+        Policy(String name, String path, int limit, Duration window) {
+            this.name = name;
+            this.paths = new ArrayList<>(List.of(path));
+            this.limit = limit;
+            this.window = window;
+        }
+
+        // cookie/header 키는 이름이 있어야 함
+        @AssertTrue(message = "key-name is required when key is cookie or header")
+        public boolean isKeyNameSetForKeyType() {
+            return key == KeyType.IP || (keyName != null && !keyName.isBlank());
+        }
+    }
+
+    private static List<Policy> defaultPolicies() {
+        List<Policy> policies = new ArrayList<>();
+        policies.add(new Policy("chat", "/api/chat/**", 5, Duration.ofMinutes(1)));
+        // 연락처 조회: 매번 DB를 읽으므로 크롤러의 반복 조회를 막음
+        policies.add(new Policy("contact-reveal", "/api/contact/reveal", 10, Duration.ofMinutes(1)));
+        // 주문 생성: 요청마다 orders 테이블에 INSERT
+        policies.add(new Policy("payment-order", "/api/payments/order", 5, Duration.ofMinutes(1)));
+        return policies;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.profile.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Redis sorted set 기반 sliding log 제한기
+// 오래된 기록 정리 -> 개수 확인 -> 기록 추가 -> TTL 갱신을 Lua 스크립트 한 번(왕복 1회)에 원자적으로 처리
+// 고정 1분 창과 달리 창 경계에서 2배 버스트가 생기지 않고, 키마다 항상 TTL이 붙어 있어 남는 키도 없음
+// 시각은 노드 시계 대신 Redis TIME을 사용 (노드 간 시계 차이로 판정이 어긋나지 않도록)
+@Component
+@RequiredArgsConstructor
+public class RedisSlidingWindowRateLimiter {
+
+    // KEYS[1] = 제한 키, ARGV = 창 길이(ms), 허용 횟수, 멤버 접미사
+    // 반환: {허용 여부(1/0), 남은 횟수, 다음 회복까지 ms}
+    private static final DefaultRedisScript<List> SLIDING_LOG = new DefaultRedisScript<>("""
+            redis.replicate_commands()
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local window = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+            local count = redis.call('ZCARD', KEYS[1])
+            local allowed = 0
+            if count < limit then
+                redis.call('ZADD', KEYS[1], now, now .. ':' .. ARGV[3])
+                count = count + 1
+                allowed = 1
+            end
+            redis.call('PEXPIRE', KEYS[1], window)
+            local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+            local reset = window
+            if oldest[2] then reset = math.max(0, tonumber(oldest[2]) + window - now) end
+            return {allowed, limit - count, reset}
+            """, List.class);
+
+    // 로컬 환경에는 Redis Bean이 없을 수 있음
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+
+    // 같은 밀리초에 들어온 요청끼리 멤버가 겹치지 않도록 노드 ID + 일련번호를 붙임
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Redis Bean이 없으면 null (판정 불가)
+    @SuppressWarnings("unchecked")
+    public RateLimitDecision tryAcquire(String key, int limit, Duration window) {
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return null;
+        }
+        List<Long> result = redisTemplate.execute(SLIDING_LOG, List.of(key),
+                String.valueOf(window.toMillis()), String.valueOf(limit), nodeId + ":" + sequence.incrementAndGet());
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected rate limit script result: " + result);
+        }
+        return new RateLimitDecision(result.get(0) == 1L, limit, result.get(1), result.get(2));
+    }
+}
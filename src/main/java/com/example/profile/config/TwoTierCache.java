@@ -0,0 +1,292 @@
+package com.example.profile.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+// L1(노드 로컬 Caffeine) + L2(Redis) 2단 캐시
+// 조회는 L1 -> L2 -> 로더 순서, 변경(put/evict/clear)은 양쪽에 반영 후 다른 노드에 L1 무효화를 알림
+// 로더는 single-flight: 노드 안에서는 키당 한 스레드만 로딩(나머지는 같은 Future 대기),
+// 노드 간에는 Redis 리스(SET NX PX)를 잡은 노드만 로딩하고 나머지는 L2에 값이 올라오길 기다림
+// L2/로더에서 읽은 값을 L1에 채우는 사이 무효화(evict/clear/put/다른 노드 알림)가 끼어들면 채운 값을 버림
+// (이전 값이 L1 TTL 동안 고정되지 않도록)
+public class TwoTierCache implements Cache {
+
+    private static final long LEASE_POLL_MILLIS = 50;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> l1;
+    private final Cache l2;
+    private final TwoTierCacheManager manager;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter leaderLoads;
+    private final Counter coalescedWaiters;
+    private final Counter remoteWaiters;
+
+    // 이 노드에서 진행 중인 로딩 (키 -> 결과 Future)
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 무효화 세대: L2 변경 "후", L1 비우기 "전"에 증가
+    private final AtomicLong invalidations = new AtomicLong();
+
+    TwoTierCache(String name,
+                 com.github.benmanes.caffeine.cache.Cache<String, Object> l1,
+                 Cache l2,
+                 TwoTierCacheManager manager,
+                 MeterRegistry meterRegistry) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.manager = manager;
+        this.l1Hits = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "l2", "miss");
+        this.leaderLoads = singleFlightCounter(meterRegistry, "leader");
+        this.coalescedWaiters = singleFlightCounter(meterRegistry, "coalesced");
+        this.remoteWaiters = singleFlightCounter(meterRegistry, "remote");
+    }
+
+    private Counter tierCounter(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    // leader: 직접 로딩, coalesced: 같은 노드의 로딩 결과를 기다림, remote: 다른 노드의 로딩 결과(L2)를 기다림
+    private Counter singleFlightCounter(MeterRegistry registry, String role) {
+        return Counter.builder("cache.singleflight.requests")
+                .tag("cache", name)
+                .tag("role", role)
+                .register(registry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        // 1. 노드 로컬 메모리 (역직렬화 비용 없음)
+        Object local = l1.getIfPresent(l1Key(key));
+        if (local != null) {
+            l1Hits.increment();
+            return new SimpleValueWrapper(local);
+        }
+        l1Misses.increment();
+
+        // 2. Redis (읽어온 값은 L1에 채워 둠)
+        long generation = invalidations.get();
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            l2Hits.increment();
+            fillL1(l1Key(key), remote.get(), generation);
+            return remote;
+        }
+        l2Misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        // 1. 같은 노드에서 이미 로딩 중이면 그 결과를 기다림
+        String localKey = l1Key(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            coalescedWaiters.increment();
+            return (T) await(running, key, valueLoader);
+        }
+
+        // 2. 이 스레드가 로딩 담당
+        try {
+            Object value = loadOnce(key, valueLoader);
+            mine.complete(value);
+            return (T) value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    // 다른 노드와 동시에 로딩하지 않도록 Redis 리스를 잡은 경우에만 로더 실행
+    private Object loadOnce(Object key, Callable<?> valueLoader) {
+        String leaseKey = manager.leaseKey(name, l1Key(key));
+        boolean leased = manager.tryAcquireLease(leaseKey);
+        try {
+            if (!leased) {
+                Object loadedElsewhere = awaitRemoteLoad(key, leaseKey);
+                if (loadedElsewhere != null) {
+                    remoteWaiters.increment();
+                    return loadedElsewhere;
+                }
+                // 리스가 만료/해제됐는데 값이 없음 (상대 노드 실패 등) -> 직접 로딩
+            }
+
+            leaderLoads.increment();
+            long generation = invalidations.get();
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (invalidations.get() != generation) {
+                return value; // 로딩 중 무효화됨: 이 요청에만 쓰고 캐시에는 올리지 않음
+            }
+            // DB에서 읽어 채우는 값이므로 다른 노드의 L1을 비울 필요 없음
+            return fillIfAbsent(key, value, generation);
+        } finally {
+            if (leased) {
+                manager.releaseLease(leaseKey);
+            }
+        }
+    }
+
+    // 리스를 가진 노드가 L2에 값을 올릴 때까지 짧게 폴링 (리스 TTL이 상한)
+    private Object awaitRemoteLoad(Object key, String leaseKey) {
+        long deadline = System.currentTimeMillis() + manager.getLeaseTtl().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            long generation = invalidations.get();
+            ValueWrapper remote = l2.get(key);
+            if (remote != null && remote.get() != null) {
+                fillL1(l1Key(key), remote.get(), generation);
+                return remote.get();
+            }
+            if (!manager.isLeaseHeld(leaseKey)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Object await(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.get(manager.getLeaseTtl().toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (TimeoutException e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value != null) { // Redis 설정상 null은 캐싱하지 않음
+            l2.put(key, value);
+            invalidations.incrementAndGet();
+            l1.put(l1Key(key), value);
+        }
+        manager.publishInvalidation(name, key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        invalidations.incrementAndGet();
+        l1.invalidate(l1Key(key));
+        manager.publishInvalidation(name, key);
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        invalidations.incrementAndGet();
+        l1.invalidateAll();
+        manager.publishInvalidation(name, null);
+    }
+
+    // 읽기 전에 본 세대와 달라졌으면 그 사이 무효화가 있었으므로 방금 채운 값을 다시 버림
+    // (무효화 쪽은 세대를 올린 뒤 L1을 비우므로, 어느 순서로 겹쳐도 이전 값이 L1에 남지 않음)
+    private void fillL1(String localKey, Object value, long generation) {
+        l1.put(localKey, value);
+        if (invalidations.get() != generation) {
+            l1.invalidate(localKey);
+        }
+    }
+
+    // 로더가 읽은 값은 로딩 중에 put(커밋 후 재생성 결과 등)된 값을 덮어쓰지 않음 (이미 있으면 그 값을 사용)
+    // 단, 남아 있는 값을 읽을 수 없으면(배포 전 스키마 버전 등) 덮어씀
+    // (그대로 두면 Redis TTL이 끝날 때까지 모든 노드가 L1 TTL마다 DB에서 다시 로딩)
+    private Object fillIfAbsent(Object key, Object value, long generation) {
+        if (value == null) {
+            return null;
+        }
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        Object stored = value;
+        if (existing != null && existing.get() != null) {
+            stored = existing.get();
+        } else if (existing != null) {
+            l2.put(key, value);
+        }
+        fillL1(l1Key(key), stored, generation);
+        return stored;
+    }
+
+    // 다른 노드에서 변경이 일어났을 때 호출 (L2는 이미 반영되어 있으므로 L1만 비움)
+    void evictLocal(String key) {
+        invalidations.incrementAndGet();
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    // L1 키는 문자열로 통일 (다른 노드에서 문자열로 전달되는 무효화 키와 비교하기 위함)
+    private static String l1Key(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.profile.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// RedisCacheManager(L2) 앞에 노드별 Caffeine(L1)을 두는 CacheManager
+// 변경 사항은 Redis Pub/Sub 채널로 전파되어 모든 노드가 자신의 L1 사본을 버림
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String SEPARATOR = "|";
+    private static final String ALL_KEYS = "*";
+    private static final String LEASE_PREFIX = "cache:lease:";
+
+    // 내가 잡은 리스만 해제 (TTL 만료 후 다른 노드가 잡은 리스를 지우지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration l1Ttl;
+    private final long l1MaxSize;
+    @Getter
+    private final Duration leaseTtl;
+
+    // 자기 자신이 보낸 무효화 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               Duration l1Ttl,
+                               long l1MaxSize,
+                               Duration leaseTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.l1Ttl = l1Ttl;
+        this.l1MaxSize = l1MaxSize;
+        this.leaseTtl = leaseTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache l2 = redisCacheManager.getCache(cacheName);
+            com.github.benmanes.caffeine.cache.Cache<String, Object> l1 = Caffeine.newBuilder()
+                    .maximumSize(l1MaxSize)
+                    .expireAfterWrite(l1Ttl) // Pub/Sub 메시지를 놓쳐도 TTL이 지나면 자연 복구
+                    .build();
+            return new TwoTierCache(cacheName, l1, l2, this, meterRegistry);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    void publishInvalidation(String cacheName, Object key) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key.toString() : ALL_KEYS);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 L1 TTL 만료까지 이전 값을 볼 수 있음
+            log.warn("Failed to publish cache invalidation [{}]: {}", message, e.getMessage());
+        }
+    }
+
+    // Redis 채널로 수신한 무효화 메시지 처리: "{nodeId}|{cacheName}|{key 또는 *}"
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    // =================================================================================
+    // 로딩 리스 (노드 간 single-flight)
+    // Redis 장애 시에는 리스 없이 각자 로딩 (캐시 미스 처리 자체가 막히면 안 되므로)
+    // =================================================================================
+
+    String leaseKey(String cacheName, String key) {
+        return LEASE_PREFIX + cacheName + "::" + key;
+    }
+
+    boolean tryAcquireLease(String leaseKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, nodeId, leaseTtl));
+        } catch (Exception e) {
+            log.debug("Lease acquisition failed [{}], loading without lease: {}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    boolean isLeaseHeld(String leaseKey) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    void releaseLease(String leaseKey) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(leaseKey), nodeId);
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 만료로 풀림
+            log.debug("Lease release failed [{}]: {}", leaseKey, e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,21 @@
 package com.example.profile.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class WebConfig implements WebMvcConfigurer {
 
     private final AdminAccessInterceptor adminAccessInterceptor;
-    private final ChatRateLimitInterceptor chatRateLimitInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -18,8 +23,31 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns("/admin/**") // /admin 으로 시작하는 모든 URL 감시
                 .excludePathPatterns("/css/**", "/js/**", "/images/**"); // 정적 리소스는 제외
 
-        registry.addInterceptor(chatRateLimitInterceptor)
-                .addPathPatterns("/api/chat/**") // /admin 으로 시작하는 모든 URL 감시
-                .excludePathPatterns("/css/**", "/js/**", "/images/**"); // 정적 리소스는 제외
+        // 패턴 없이 등록하면 모든 경로에 걸리므로 정책이 없으면 등록하지 않음
+        List<String> rateLimitPaths = rateLimitInterceptor.pathPatterns();
+        if (!rateLimitPaths.isEmpty()) {
+            registry.addInterceptor(rateLimitInterceptor)
+                    .addPathPatterns(rateLimitPaths) // app.rate-limit.policies의 경로 전체 감시
+                    .excludePathPatterns("/css/**", "/js/**", "/images/**"); // 정적 리소스는 제외
+        }
+    }
+
+    // 정적 리소스: gzip/br 압축본을 리소스당 한 번만 만들어 재사용
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        PrecompressedResourceResolver precompressed = new PrecompressedResourceResolver();
+
+        registry.addResourceHandler("/css/**")
+                .addResourceLocations("classpath:/static/css/")
+                .resourceChain(true)
+                .addResolver(precompressed);
+        registry.addResourceHandler("/js/**")
+                .addResourceLocations("classpath:/static/js/")
+                .resourceChain(true)
+                .addResolver(precompressed);
+        registry.addResourceHandler("/webjars/**")
+                .addResourceLocations("classpath:/META-INF/resources/webjars/")
+                .resourceChain(true)
+                .addResolver(precompressed);
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,17 @@
 package com.example.profile.controller;
 
+import com.example.profile.dto.ProfileSummaryPage;
 import com.example.profile.dto.ProfileWrapper;
 import com.example.profile.service.AdminProfileService;
+import com.example.profile.service.ProfileChangeSet;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @Controller
 @RequestMapping("/admin")
 @RequiredArgsConstructor // AdminProfileService 생성자 주입
@@ -16,8 +21,13 @@ public class AdminController {
 
     // 목록 페이지
     @GetMapping("/profiles")
-    public String listProfiles(Model model) {
-        model.addAttribute("profiles", adminProfileService.getAllProfiles());
+    public String listProfiles(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeDate,
+                               @RequestParam(required = false) Long beforeId,
+                               Model model) {
+        ProfileSummaryPage page = adminProfileService.getProfileSummaries(beforeDate, beforeId);
+        model.addAttribute("profiles", page.getItems());
+        model.addAttribute("page", page);
+        model.addAttribute("firstPage", beforeDate == null);
         return "admin/profile-list";
     }
 
@@ -47,8 +57,11 @@ public class AdminController {
     // 저장
     @PostMapping("/profile/{id}/save")
     public String saveProfile(@PathVariable Long id, @ModelAttribute ProfileWrapper wrapper) {
-        adminProfileService.saveProfile(id, wrapper);
-        return "redirect:/admin/profile/" + id + "?saved=true";
+        ProfileChangeSet changes = adminProfileService.saveProfile(id, wrapper);
+        return "redirect:/admin/profile/" + id + "?saved=true"
+                + "&inserted=" + changes.getInserted()
+                + "&updated=" + changes.getUpdated()
+                + "&deleted=" + changes.getDeleted();
     }
 
     // 삭제 기능
@@ -1,11 +1,19 @@
 package com.example.profile.controller;
 
+import com.example.profile.config.ChatStreamConfig;
+import com.example.profile.config.ClientIpResolver;
 import com.example.profile.dto.ChatRequestDto; // 방금 만든 DTO 임포트
+import com.example.profile.service.ChatStreamMetrics;
 import com.example.profile.service.GeminiChatService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.IOException;
 
@@ -15,9 +23,12 @@ import java.io.IOException;
 public class ChatController {
 
     private final GeminiChatService geminiChatService;
+    private final ClientIpResolver clientIpResolver;
+    private final ChatStreamMetrics chatStreamMetrics;
+    private final Scheduler chatSseScheduler;
 
     @PostMapping(value = "/stream", produces = "text/event-stream")
-    public ResponseEntity<SseEmitter> chatStream(@RequestBody ChatRequestDto request) {
+    public ResponseEntity<SseEmitter> chatStream(@RequestBody ChatRequestDto request, HttpServletRequest httpRequest) {
 
         String userMessage = request.getNewMessage();
 
@@ -26,22 +37,38 @@ public class ChatController {
             throw new IllegalArgumentException("메시지는 1자 이상, 200자 이하로 입력해주세요.");
         }
 
-        // SSE 연결 유지 시간 30초 설정
-        SseEmitter emitter = new SseEmitter(30000L);
+        // SSE 연결 유지 시간 60초 설정 (동시 호출 대기열 최대 대기 20초 + 답변 스트리밍)
+        SseEmitter emitter = new SseEmitter(60000L);
 
-        // 서비스로 DTO 전체(과거 내역 + 새로운 질문)를 넘겨줍니다.
-        geminiChatService.streamChatResponse(request)
+        // 브라우저가 탭을 닫거나 타임아웃이 나면 업스트림 Gemini 스트림도 바로 취소 (쿼터/커넥션 낭비 방지)
+        // 캐시 재생처럼 구독 도중 동기로 끝날 수도 있으므로 콜백을 먼저 걸고 구독은 나중에 채워 넣음
+        Disposable.Swap subscription = Disposables.swap();
+        ChatStreamMetrics.Tracked tracked = chatStreamMetrics.track();
+        emitter.onCompletion(() -> tracked.cancel(subscription, "client_closed"));
+        emitter.onTimeout(() -> tracked.cancel(subscription, "timeout"));
+        emitter.onError(e -> tracked.cancel(subscription, "client_error"));
+
+        // 서비스로 DTO 전체(과거 내역 + 새로운 질문)를 넘겨줍니다. (IP는 동시 호출 대기열의 공정성 기준)
+        // 쓰기(느린 클라이언트에서 블로킹될 수 있음)는 Netty 이벤트 루프가 아닌 SSE 전용 풀에서
+        subscription.update(geminiChatService.streamChatResponse(request, clientIpResolver.resolve(httpRequest))
+                .publishOn(chatSseScheduler, ChatStreamConfig.SSE_PREFETCH)
+                .doOnNext(tracked::onEvent)
+                .doOnTerminate(tracked::finish)
                 .subscribe(
-                        chunk -> {
+                        event -> {
                             try {
-                                emitter.send(chunk);
+                                // event: delta|done|status, data: 텍스트 조각 또는 종료/대기 정보만 담은 작은 JSON
+                                emitter.send(SseEmitter.event()
+                                        .name(event.getEventName())
+                                        .data(event, MediaType.APPLICATION_JSON));
                             } catch (IOException e) {
+                                tracked.cancel(subscription, "client_closed");
                                 emitter.completeWithError(e);
                             }
                         },
                         emitter::completeWithError,
                         emitter::complete
-                );
+                ));
 
         return ResponseEntity.ok(emitter);
     }
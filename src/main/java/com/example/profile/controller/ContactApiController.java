@@ -1,8 +1,7 @@
 package com.example.profile.controller;
 
-import com.example.profile.model.ProfileConfig;
-import com.example.profile.model.ProfileMaster;
-import com.example.profile.repository.ProfileMasterRepository;
+import com.example.profile.dto.ContactInfoDTO;
+import com.example.profile.service.ContactInfoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,7 +17,7 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ContactApiController {
 
-    private final ProfileMasterRepository masterRepo;
+    private final ContactInfoService contactInfoService;
 
     @PostMapping("/reveal")
     public ResponseEntity<Map<String, String>> revealContactInfo(@RequestBody Map<String, Long> payload) {
@@ -30,16 +29,10 @@ public class ContactApiController {
             return ResponseEntity.badRequest().build();
         }
 
-        ProfileMaster master = masterRepo.findById(profileId).orElse(null);
-
-        if (master != null && master.getConfig() != null) {
-            ProfileConfig config = master.getConfig();
-            response.put("phone", config.getPhone() != null ? config.getPhone() : "");
-            response.put("email", config.getEmail() != null ? config.getEmail() : "");
-        } else {
-            response.put("phone", "");
-            response.put("email", "");
-        }
+        // 캐시 적중 시 DB 조회 없음 (미적중 시에도 연락처 두 컬럼만 조회)
+        ContactInfoDTO contact = contactInfoService.getContactInfo(profileId);
+        response.put("phone", contact.getPhone());
+        response.put("email", contact.getEmail());
 
         return ResponseEntity.ok(response);
     }
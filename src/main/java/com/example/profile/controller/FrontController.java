@@ -1,12 +1,27 @@
 package com.example.profile.controller;
 
-import com.example.profile.dto.ProfileWrapper;
+import com.example.profile.config.CompressedContent;
+import com.example.profile.dto.ProfileResponseDTO;
 import com.example.profile.service.FrontProfileService;
+import com.example.profile.service.IndexPageCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Map;
 
 @Slf4j
 @Controller
@@ -14,17 +29,61 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class FrontController {
 
     private final FrontProfileService frontProfileService;
+    private final IndexPageCache indexPageCache;
+    private final SpringTemplateEngine templateEngine;
 
     @GetMapping("/")
-    public String index(Model model) {
+    public ResponseEntity<byte[]> index(HttpServletRequest request, HttpServletResponse response) {
         // 1. 화면에 보여줄 데이터 조회 (숨김 처리된 것 제외됨)
-        ProfileWrapper profile = frontProfileService.getPublicProfile();
+        ProfileResponseDTO profile = frontProfileService.getPublicProfile();
         log.info("Somebody got profile");
 
-        // 2. 모델에 담기
-        model.addAttribute("profile", profile);
+        // 2. 같은 버전이면 저장된 HTML 재사용 (푸터의 연도까지 버전 키에 포함)
+        Year year = Year.now();
+        String versionKey = profile.getVersion() + ":" + year;
+        IndexPageCache.RenderedPage page = indexPageCache.get(versionKey, lastModified(profile, year),
+                () -> render(profile, request, response));
+
+        // 3. Accept-Encoding에 맞는 압축본 선택 (압축은 렌더링 시 이미 끝나 있음)
+        CompressedContent.Variant variant = page.getContent().select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        // 4. ETag/Last-Modified가 일치하면 Spring이 본문 없이 304로 응답
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(page.getEtag() + etagSuffix(variant));
+        if (page.getLastModified() != null) {
+            builder.lastModified(page.getLastModified());
+        }
+        if (variant.isEncoded()) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, variant.getEncoding());
+        }
+        return builder.body(variant.getBody());
+    }
+
+    // 스냅샷 조립 시각 (이력서 수정 시각은 오래된 이력서를 다시 활성화하면 뒤로 가므로 쓰지 않음)
+    // 연도가 바뀌면 푸터가 달라지므로 그 해의 시작보다 이르지 않게 함
+    private static Long lastModified(ProfileResponseDTO profile, Year year) {
+        if (profile.getBuiltAt() == null) {
+            return null;
+        }
+        long yearStart = year.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Math.max(profile.getBuiltAt(), yearStart);
+    }
+
+    // 인코딩별로 바이트가 다르므로 ETag도 구분 (중간 캐시가 섞어 쓰지 않도록)
+    private static String etagSuffix(CompressedContent.Variant variant) {
+        if (!variant.isEncoded()) {
+            return "";
+        }
+        return CompressedContent.BROTLI.equals(variant.getEncoding()) ? "-br" : "-gz";
+    }
 
-        // 3. 뷰 반환 (resources/templates/index.html)
-        return "index";
+    // resources/templates/index.html 렌더링
+    private String render(ProfileResponseDTO profile, HttpServletRequest request, HttpServletResponse response) {
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(request.getServletContext());
+        WebContext context = new WebContext(application.buildExchange(request, response), request.getLocale(), Map.of("profile", profile));
+        return templateEngine.process("index", context);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package com.example.profile.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class CertificationDTO {
+    String name;
+    String issueDate;
+    String additionalInfo;
+}
@@ -0,0 +1,57 @@
+package com.example.profile.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 브라우저로 내려보내는 챗봇 SSE 이벤트
+// event: delta  data: {"text":"..."}
+// event: done   data: {"finishReason":"STOP","promptTokens":1200,"outputTokens":85}
+// event: status data: {"status":"queued","position":3} (동시 호출 한도에 걸려 대기/거절될 때만)
+// 답변 캐시(Redis, default typing JSON)에도 그대로 저장되므로 final/record가 아닌 일반 클래스로 둠
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatStreamEvent {
+
+    public static final String DELTA = "delta";
+    public static final String DONE = "done";
+    public static final String STATUS = "status";
+
+    public static final String QUEUED = "queued";
+    public static final String REJECTED = "rejected";
+
+    private String text;
+    private String finishReason;
+    private Integer promptTokens;
+    private Integer outputTokens;
+    private String status;
+    private Integer position;
+
+    public static ChatStreamEvent delta(String text) {
+        return new ChatStreamEvent(text, null, null, null, null, null);
+    }
+
+    public static ChatStreamEvent done(String finishReason, Integer promptTokens, Integer outputTokens) {
+        return new ChatStreamEvent(null, finishReason, promptTokens, outputTokens, null, null);
+    }
+
+    public static ChatStreamEvent queued(int position) {
+        return new ChatStreamEvent(null, null, null, null, QUEUED, position);
+    }
+
+    public static ChatStreamEvent rejected() {
+        return new ChatStreamEvent(null, null, null, null, REJECTED, null);
+    }
+
+    @JsonIgnore
+    public String getEventName() {
+        if (text != null) return DELTA;
+        return status != null ? STATUS : DONE;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.profile.dto;
+
+import lombok.Value;
+
+// 연락처 보기 버튼 응답용 (ProfileMaster/ProfileConfig 엔티티를 로딩하지 않고 두 컬럼만 조회)
+@Value
+public class ContactInfoDTO {
+
+    public static final ContactInfoDTO EMPTY = new ContactInfoDTO("", "");
+
+    String phone;
+    String email;
+}
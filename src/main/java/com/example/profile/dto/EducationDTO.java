@@ -0,0 +1,16 @@
+package com.example.profile.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class EducationDTO {
+    String institution;
+    String period;
+    String major;
+    String gpa;
+    String additionalInfo;
+}
@@ -0,0 +1,79 @@
+package com.example.profile.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// Gemini streamGenerateContent(alt=sse) 응답 이벤트 하나
+// 필요한 필드(텍스트, 종료 사유, 토큰 사용량)만 매핑하고 safetyRatings 등 나머지는 무시
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GeminiStreamChunk {
+
+    private List<Candidate> candidates;
+    private UsageMetadata usageMetadata;
+
+    // 첫 번째 후보의 텍스트 파트를 이어 붙인 값 (없으면 빈 문자열)
+    public String text() {
+        Candidate candidate = firstCandidate();
+        if (candidate == null || candidate.getContent() == null || candidate.getContent().getParts() == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (Part part : candidate.getContent().getParts()) {
+            if (part.getText() != null) {
+                sb.append(part.getText());
+            }
+        }
+        return sb.toString();
+    }
+
+    public String finishReason() {
+        Candidate candidate = firstCandidate();
+        return candidate != null ? candidate.getFinishReason() : null;
+    }
+
+    private Candidate firstCandidate() {
+        return candidates == null || candidates.isEmpty() ? null : candidates.get(0);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Candidate {
+        private Content content;
+        private String finishReason;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Content {
+        private List<Part> parts;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Part {
+        private String text;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class UsageMetadata {
+        private Integer promptTokenCount;
+        private Integer candidatesTokenCount;
+        private Integer totalTokenCount;
+    }
+}
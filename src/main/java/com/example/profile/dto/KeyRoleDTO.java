@@ -1,8 +1,12 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
+@Value
+@Builder
+@Jacksonized
 public class KeyRoleDTO {
-    private String roleContent;
+    String roleContent;
 }
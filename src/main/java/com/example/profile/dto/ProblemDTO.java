@@ -1,12 +1,17 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
 import java.util.List;
 
-@Data
+@Value
+@Builder
+@Jacksonized
 public class ProblemDTO {
-    private String title;
-    private int sortOrder;
-    private List<String> solutions;
-    private List<String> impacts;
+    String title;
+    @Singular List<String> solutions;
+    @Singular List<String> impacts;
 }
@@ -1,17 +1,40 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
 import java.util.List;
 
-@Data
+// 공개 페이지용 불변 스냅샷 (프로필 버전당 한 번 조립되어 모든 요청이 공유)
+@Value
+@Builder
+@Jacksonized
 public class ProfileResponseDTO {
+    // 0. 스냅샷 식별 정보
+    Long profileId;
+    String version; // "{profileId}-{lastModified epoch millis}" (캐시/ETag 키로 사용)
+    Long builtAt;   // 스냅샷을 조립한 시각 (epoch millis), 활성 이력서 전환도 새 스냅샷이므로 Last-Modified로 사용
+
     // 1. 헤더 및 정적 정보
-    private String fullName;
-    private String jobTitle;
-    private String email;
-    private String phone;
-    private String github;
+    String fullName;
+    String jobTitle;
+    String email;
+    String phone;
+    String github;
+    String aboutParagraph;
+
+    // 2. 동적 섹션 목록 (노출 항목만, 정렬 완료 상태)
+    @Singular List<SectionDTO> sections;
+    @Singular List<KeyRoleDTO> keyRoles;
+    @Singular List<SkillCategoryDTO> skillCategories;
+    @Singular List<ProjectGroupDTO> projectGroups;
+    @Singular List<EducationDTO> educations;
+    @Singular List<CertificationDTO> certifications;
 
-    // 2. 동적 섹션 목록 (About, Projects, Skills 등)
-    private List<SectionDTO> sections;
+    // 활성화된 이력서가 없을 때 사용하는 빈 스냅샷
+    public static ProfileResponseDTO empty() {
+        return ProfileResponseDTO.builder().version("empty").builtAt(System.currentTimeMillis()).build();
+    }
 }
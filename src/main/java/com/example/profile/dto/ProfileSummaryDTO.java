@@ -0,0 +1,17 @@
+package com.example.profile.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+// 관리자 이력서 목록용 요약 (엔티티/하위 컬렉션을 로딩하지 않고 한 번의 집계 쿼리로 채움)
+@Value
+public class ProfileSummaryDTO {
+    Long id;
+    String title;
+    boolean active;
+    LocalDateTime lastModifiedDate;
+    Long companyCount;
+    Long projectCount;
+    Long skillCount;
+}
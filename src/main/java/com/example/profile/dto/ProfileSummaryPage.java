@@ -0,0 +1,27 @@
+package com.example.profile.dto;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 키셋 페이지: 다음 페이지는 마지막 항목의 (수정일, id) 이후부터 조회
+@Value
+public class ProfileSummaryPage {
+
+    // 수정일이 없는 이력서의 정렬/커서 값 (ProfileMasterRepository.SORT_DATE와 같은 값)
+    public static final LocalDateTime MISSING_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    List<ProfileSummaryDTO> items;
+    boolean hasNext;
+
+    public LocalDateTime getNextBeforeDate() {
+        if (!hasNext) return null;
+        LocalDateTime date = items.get(items.size() - 1).getLastModifiedDate();
+        return date != null ? date : MISSING_DATE;
+    }
+
+    public Long getNextBeforeId() {
+        return hasNext ? items.get(items.size() - 1).getId() : null;
+    }
+}
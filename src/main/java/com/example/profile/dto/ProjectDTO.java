@@ -1,13 +1,18 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
 import java.util.List;
 
-@Data
+@Value
+@Builder
+@Jacksonized
 public class ProjectDTO {
-    private String title;
-    private int sortOrder;
+    String title;
 
     // 기간, 스택 섹션, 소개, 내용 섹션 등이 모두 정렬된 통합 리스트
-    private List<ProjectItemDTO> projectItems;
+    @Singular List<ProjectItemDTO> projectItems;
 }
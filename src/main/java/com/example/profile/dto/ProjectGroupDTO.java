@@ -1,11 +1,18 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
 import java.util.List;
 
-@Data
+// Company 한 건에 대응 (회사 또는 Personal Projects 그룹)
+@Value
+@Builder
+@Jacksonized
 public class ProjectGroupDTO {
-    private String groupName;
-    private int sortOrder;
-    private List<ProjectDTO> projects;
+    String groupName;
+    String groupType; // WORK, PERSONAL
+    @Singular List<ProjectDTO> projects;
 }
@@ -1,17 +1,22 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
 import java.util.List;
 
-@Data
+@Value
+@Builder
+@Jacksonized
 public class ProjectItemDTO {
-    private String itemType;
-    private int sortOrder;
-    private String content;
+    String itemType;
+    String content;
 
     // itemType이 TECH_STACK_GROUP일 때 사용
-    private List<String> techStacks;
+    @Singular List<String> techStacks;
 
     // itemType이 CONTENT_GROUP일 때 사용
-    private List<ProblemDTO> problems;
+    @Singular List<ProblemDTO> problems;
 }
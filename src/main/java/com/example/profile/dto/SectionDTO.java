@@ -1,10 +1,14 @@
 package com.example.profile.dto;
 
-import lombok.Data;
+import com.example.profile.model.SectionType;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
-@Data
+@Value
+@Builder
+@Jacksonized
 public class SectionDTO {
-    private String sectionName;
-    private int sortOrder;
-    private Object content; // KeyRoleDTO List, ProjectGroupDTO List 등이 담김
+    SectionType sectionType;
+    String sectionName;
 }
@@ -0,0 +1,16 @@
+package com.example.profile.dto;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+public class SkillCategoryDTO {
+    String name;
+    @Singular List<String> skills; // 노출 스킬 이름만 정렬 순서대로
+}
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 @Getter @Setter @NoArgsConstructor
 @Table(name = "education")
 public class Education {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "education_seq")
+    @SequenceGenerator(name = "education_seq", sequenceName = "education_seq", allocationSize = 50)
     private Long id;
 
     private String institution; // 학교명
@@ -13,7 +13,8 @@ import lombok.Setter;
 @Table(name = "impact")
 public class Impact {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "impact_seq")
+    @SequenceGenerator(name = "impact_seq", sequenceName = "impact_seq", allocationSize = 50)
     private Long id;
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
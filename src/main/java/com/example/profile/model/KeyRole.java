@@ -13,7 +13,8 @@ import lombok.Setter;
 @Table(name = "key_role")
 public class KeyRole {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "key_role_seq")
+    @SequenceGenerator(name = "key_role_seq", sequenceName = "key_role_seq", allocationSize = 50)
     private Long id;
     @Column(name = "role_content", columnDefinition = "TEXT", nullable = false)
     private String roleContent;
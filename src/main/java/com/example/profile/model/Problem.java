@@ -16,7 +16,8 @@ import java.util.List;
 @Table(name = "problem")
 public class Problem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "problem_seq")
+    @SequenceGenerator(name = "problem_seq", sequenceName = "problem_seq", allocationSize = 50)
     private Long id;
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
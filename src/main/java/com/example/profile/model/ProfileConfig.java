@@ -13,7 +13,8 @@ import lombok.Setter;
 @Table(name = "resume_config")
 public class ProfileConfig {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_config_seq")
+    @SequenceGenerator(name = "resume_config_seq", sequenceName = "resume_config_seq", allocationSize = 50)
     private Long id;
     private String fullName;
     private String email;
@@ -13,7 +13,9 @@ import java.util.List;
 @Builder
 public class ProfileMaster {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profile_master_seq")
+    @SequenceGenerator(name = "profile_master_seq", sequenceName = "profile_master_seq", allocationSize = 50)
     private Long id;
 
     private String title; // 이력서 제목 (예: 백엔드 지원용)
@@ -13,7 +13,8 @@ import lombok.Setter;
 @Table(name = "resume_section")
 public class ProfileSection {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_section_seq")
+    @SequenceGenerator(name = "resume_section_seq", sequenceName = "resume_section_seq", allocationSize = 50)
     private Long id;
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
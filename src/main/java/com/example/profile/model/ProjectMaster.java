@@ -17,7 +17,8 @@ import java.util.List;
 @Table(name = "project_master")
 public class ProjectMaster {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_master_seq")
+    @SequenceGenerator(name = "project_master_seq", sequenceName = "project_master_seq", allocationSize = 50)
     private Long id;
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,8 @@ import java.util.List;
 @Table(name = "project_meta")
 public class ProjectMeta {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_meta_seq")
+    @SequenceGenerator(name = "project_meta_seq", sequenceName = "project_meta_seq", allocationSize = 50)
     private Long id;
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
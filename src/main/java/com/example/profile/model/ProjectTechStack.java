@@ -13,7 +13,8 @@ import lombok.Setter;
 @Table(name = "project_tech_stack")
 public class ProjectTechStack {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_tech_stack_seq")
+    @SequenceGenerator(name = "project_tech_stack_seq", sequenceName = "project_tech_stack_seq", allocationSize = 50)
     private Long id;
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY)
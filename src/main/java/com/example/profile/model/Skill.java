@@ -12,7 +12,9 @@ import lombok.Setter;
 @NoArgsConstructor
 @Table(name = "skill_set")
 public class Skill {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_set_seq")
+    @SequenceGenerator(name = "skill_set_seq", sequenceName = "skill_set_seq", allocationSize = 50)
     private Long id;
 
     private String name;
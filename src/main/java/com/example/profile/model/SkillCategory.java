@@ -10,7 +10,9 @@ import java.util.List;
 @Entity
 @Getter @Setter
 public class SkillCategory {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skill_category_seq")
+    @SequenceGenerator(name = "skill_category_seq", sequenceName = "skill_category_seq", allocationSize = 50)
     private Long id;
 
     private String name; // 예: "Database", "DevOps"
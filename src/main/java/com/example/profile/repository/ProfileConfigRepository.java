@@ -1,9 +1,19 @@
 package com.example.profile.repository;
 
 
+import com.example.profile.dto.ContactInfoDTO;
 import com.example.profile.model.ProfileConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface ProfileConfigRepository extends JpaRepository<ProfileConfig, Long> {
     // 단일 레코드이므로 기본 findById(1L) 사용
+
+    // 연락처 두 컬럼만 조회 (null은 빈 문자열로)
+    @Query("select new com.example.profile.dto.ContactInfoDTO(coalesce(c.phone, ''), coalesce(c.email, '')) " +
+            "from ProfileConfig c where c.profileMaster.id = :profileId")
+    Optional<ContactInfoDTO> findContactInfo(@Param("profileId") Long profileId);
 }
@@ -0,0 +1,13 @@
+package com.example.profile.repository;
+
+import com.example.profile.model.ProfileMaster;
+
+import java.util.Optional;
+
+// 이력서 전체 트리(회사 -> 프로젝트 -> 메타 -> 문제 -> 해결/성과 등)를 고정된 쿼리 수로 한 번에 로딩
+public interface ProfileGraphRepository {
+
+    Optional<ProfileMaster> findActiveProfileGraph();
+
+    Optional<ProfileMaster> findProfileGraphById(Long profileId);
+}
@@ -0,0 +1,65 @@
+package com.example.profile.repository;
+
+import com.example.profile.model.ProfileMaster;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Optional;
+
+// List(bag) 컬렉션은 한 쿼리에서 둘 이상 fetch join 할 수 없으므로(MultipleBagFetchException),
+// 계층(레벨)마다 "부모 ID 기준 fetch join" 쿼리를 하나씩 날려 같은 영속성 컨텍스트 안의 컬렉션을 채움.
+// -> 이력서 크기와 무관하게 항상 GRAPH_QUERY_COUNT 번의 쿼리로 전체 트리가 초기화됨
+class ProfileGraphRepositoryImpl implements ProfileGraphRepository {
+
+    static final int GRAPH_QUERY_COUNT = 14;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<ProfileMaster> findActiveProfileGraph() {
+        List<ProfileMaster> roots = em.createQuery(
+                        "select p from ProfileMaster p left join fetch p.config where p.isActive = true", ProfileMaster.class)
+                .getResultList();
+        return roots.stream().findFirst().map(this::fetchGraph);
+    }
+
+    @Override
+    public Optional<ProfileMaster> findProfileGraphById(Long profileId) {
+        List<ProfileMaster> roots = em.createQuery(
+                        "select p from ProfileMaster p left join fetch p.config where p.id = :id", ProfileMaster.class)
+                .setParameter("id", profileId)
+                .getResultList();
+        return roots.stream().findFirst().map(this::fetchGraph);
+    }
+
+    private ProfileMaster fetchGraph(ProfileMaster root) {
+        Long id = root.getId();
+
+        // 1. 루트 직속 컬렉션 (각 1쿼리)
+        fetch("select p from ProfileMaster p left join fetch p.sections where p.id = :id", id);
+        fetch("select p from ProfileMaster p left join fetch p.keyRoles where p.id = :id", id);
+        fetch("select p from ProfileMaster p left join fetch p.educations where p.id = :id", id);
+        fetch("select p from ProfileMaster p left join fetch p.certifications where p.id = :id", id);
+
+        // 2. 스킬: 카테고리 -> 스킬
+        fetch("select p from ProfileMaster p left join fetch p.skillCategories where p.id = :id", id);
+        fetch("select c from SkillCategory c left join fetch c.skills where c.profileMaster.id = :id", id);
+
+        // 3. 경력: 회사 -> 프로젝트 -> 메타 -> (기술스택, 문제) -> (해결, 성과)
+        fetch("select p from ProfileMaster p left join fetch p.companies where p.id = :id", id);
+        fetch("select c from Company c left join fetch c.projects where c.profileMaster.id = :id", id);
+        fetch("select pm from ProjectMaster pm left join fetch pm.metaItems where pm.company.profileMaster.id = :id", id);
+        fetch("select m from ProjectMeta m left join fetch m.techStacks where m.projectMaster.company.profileMaster.id = :id", id);
+        fetch("select m from ProjectMeta m left join fetch m.problems where m.projectMaster.company.profileMaster.id = :id", id);
+        fetch("select pr from Problem pr left join fetch pr.solutions where pr.projectMeta.projectMaster.company.profileMaster.id = :id", id);
+        fetch("select pr from Problem pr left join fetch pr.impacts where pr.projectMeta.projectMaster.company.profileMaster.id = :id", id);
+
+        return root;
+    }
+
+    private void fetch(String jpql, Long profileId) {
+        em.createQuery(jpql).setParameter("id", profileId).getResultList();
+    }
+}
@@ -1,11 +1,49 @@
 package com.example.profile.repository;
 
+import com.example.profile.dto.ProfileSummaryDTO;
 import com.example.profile.model.ProfileMaster;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface ProfileMasterRepository  extends JpaRepository<ProfileMaster, Long> {
+public interface ProfileMasterRepository  extends JpaRepository<ProfileMaster, Long>, ProfileGraphRepository {
 
     Optional<ProfileMaster> findByIsActiveTrue();
+
+    // 관리자 목록: 요약 + 하위 개수를 한 쿼리로 (최근 수정순, (수정일, id) 키셋 페이지네이션)
+    String SUMMARY_SELECT = "select new com.example.profile.dto.ProfileSummaryDTO(p.id, p.title, p.isActive, p.lastModifiedDate, "
+            + "(select count(c) from Company c where c.profileMaster = p), "
+            + "(select count(pm) from ProjectMaster pm where pm.company.profileMaster = p), "
+            + "(select count(s) from Skill s where s.category.profileMaster = p)) "
+            + "from ProfileMaster p ";
+    // 수정일이 없는 행은 < / = 비교에 걸리지 않아 페이지를 넘기면 빠지므로 가장 오래된 값으로 취급
+    // (ProfileSummaryPage.MISSING_DATE와 같은 값이어야 함)
+    String SORT_DATE = "coalesce(p.lastModifiedDate, {ts '1970-01-01 00:00:00'})";
+    String SUMMARY_ORDER = "order by " + SORT_DATE + " desc, p.id desc";
+
+    @Query(SUMMARY_SELECT + SUMMARY_ORDER)
+    List<ProfileSummaryDTO> findSummaries(Limit limit);
+
+    @Query(SUMMARY_SELECT
+            + "where " + SORT_DATE + " < :beforeDate or (" + SORT_DATE + " = :beforeDate and p.id < :beforeId) "
+            + SUMMARY_ORDER)
+    List<ProfileSummaryDTO> findSummariesBefore(@Param("beforeDate") LocalDateTime beforeDate,
+                                                @Param("beforeId") Long beforeId,
+                                                Limit limit);
+
+    // 활성 이력서 전환은 이력서 개수와 무관하게 UPDATE 두 번으로 끝냄
+    // (부분 유니크 인덱스 때문에 반드시 "나머지 해제 -> 대상 활성화" 순서로 실행)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProfileMaster p set p.isActive = false where p.isActive = true and p.id <> :profileId")
+    int deactivateAllExcept(@Param("profileId") Long profileId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProfileMaster p set p.isActive = true where p.id = :profileId")
+    int activate(@Param("profileId") Long profileId);
 }
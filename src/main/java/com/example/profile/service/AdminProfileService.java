@@ -1,34 +1,52 @@
 package com.example.profile.service;
 
+import com.example.profile.dto.ProfileSummaryDTO;
+import com.example.profile.dto.ProfileSummaryPage;
 import com.example.profile.dto.ProfileWrapper;
 import com.example.profile.model.*;
 import com.example.profile.repository.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.data.domain.Sort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
+import static com.example.profile.service.ProfileChangeSet.assign;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AdminProfileService {
 
     private final ProfileMasterRepository masterRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     // =================================================================================
     // 1. 이력서 목록 관리
     // =================================================================================
 
+    public static final int PROFILE_PAGE_SIZE = 20;
+
+    // 엔티티 대신 요약 프로젝션을 키셋 페이지 단위로 조회 (이력서가 늘어나도 페이지당 쿼리 1개)
     @Transactional(readOnly = true)
-    public List<ProfileMaster> getAllProfiles() {
-        return masterRepo.findAll(Sort.by(Sort.Direction.DESC, "lastModifiedDate"));
+    public ProfileSummaryPage getProfileSummaries(LocalDateTime beforeDate, Long beforeId) {
+        Limit limit = Limit.of(PROFILE_PAGE_SIZE + 1); // 한 건 더 읽어서 다음 페이지 유무 판단
+        List<ProfileSummaryDTO> rows = (beforeDate != null && beforeId != null)
+                ? masterRepo.findSummariesBefore(beforeDate, beforeId, limit)
+                : masterRepo.findSummaries(limit);
+
+        boolean hasNext = rows.size() > PROFILE_PAGE_SIZE;
+        return new ProfileSummaryPage(hasNext ? rows.subList(0, PROFILE_PAGE_SIZE) : rows, hasNext);
     }
 
     public void createNewProfile(String title) {
@@ -52,12 +70,13 @@ public class AdminProfileService {
         masterRepo.save(profile);
     }
 
-    @CacheEvict(value = "portfolio", key = "'activeProfile'")
     public void setActiveProfile(Long profileId) {
-        List<ProfileMaster> all = masterRepo.findAll();
-        for (ProfileMaster p : all) {
-            p.setActive(p.getId().equals(profileId));
+        // 전체 목록을 읽지 않고 집합 단위 UPDATE 두 번 (활성 이력서는 DB 부분 유니크 인덱스로 하나만 허용)
+        masterRepo.deactivateAllExcept(profileId);
+        if (masterRepo.activate(profileId) == 0) {
+            throw new IllegalArgumentException("Invalid Profile ID: " + profileId);
         }
+        eventPublisher.publishEvent(new ProfileActivatedEvent(profileId));
     }
 
     // =================================================================================
@@ -66,7 +85,7 @@ public class AdminProfileService {
 
     @Transactional(readOnly = true)
     public ProfileWrapper getProfileWrapper(Long profileId) {
-        ProfileMaster master = masterRepo.findById(profileId)
+        ProfileMaster master = masterRepo.findProfileGraphById(profileId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid Profile ID: " + profileId));
 
         ProfileWrapper wrapper = new ProfileWrapper();
@@ -91,54 +110,65 @@ public class AdminProfileService {
         return wrapper;
     }
 
-    @CacheEvict(value = "portfolio", key = "'activeProfile'")
-    public void saveProfile(Long profileId, ProfileWrapper wrapper) {
-        ProfileMaster master = masterRepo.findById(profileId)
+    // 실제로 바뀐 행만 수정하고, 바뀐 게 없으면 수정일/이벤트(= 캐시 재생성)도 건드리지 않음
+    public ProfileChangeSet saveProfile(Long profileId, ProfileWrapper wrapper) {
+        ProfileMaster master = masterRepo.findProfileGraphById(profileId)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid Profile ID"));
+        ProfileChangeSet changes = new ProfileChangeSet();
 
         // 1. Config 업데이트
-        if (wrapper.getConfig() != null) {
-            ProfileConfig dbConfig = master.getConfig();
-            ProfileConfig formConfig = wrapper.getConfig();
-            dbConfig.setFullName(formConfig.getFullName());
-            dbConfig.setCompanyRoleLabel(formConfig.getCompanyRoleLabel());
-            dbConfig.setAboutParagraph(formConfig.getAboutParagraph());
-            dbConfig.setPhone(formConfig.getPhone());
-            dbConfig.setEmail(formConfig.getEmail());
-            dbConfig.setGithub(formConfig.getGithub());
+        if (wrapper.getConfig() != null && mergeConfig(master.getConfig(), wrapper.getConfig())) {
+            changes.recordUpdate();
         }
 
-        // 2. 각 리스트 업데이트 (스마트 병합: ID 유지)
-        mergeSections(master.getSections(), wrapper.getSections(), master);
-        mergeKeyRoles(master.getKeyRoles(), wrapper.getKeyRoles(), master);
-        mergeCompanies(master.getCompanies(), wrapper.getCompanies(), master);
-        mergeSkillCategories(master.getSkillCategories(), wrapper.getSkillCategories(), master);
-        mergeEducations(master.getEducations(), wrapper.getEducations(), master);
-        mergeCertifications(master.getCertifications(), wrapper.getCertifications(), master);
+        // 2. 각 리스트 업데이트 (스마트 병합: ID 유지, 바뀐 필드만 반영)
+        mergeSections(master.getSections(), wrapper.getSections(), master, changes);
+        mergeKeyRoles(master.getKeyRoles(), wrapper.getKeyRoles(), master, changes);
+        mergeCompanies(master.getCompanies(), wrapper.getCompanies(), master, changes);
+        mergeSkillCategories(master.getSkillCategories(), wrapper.getSkillCategories(), master, changes);
+        mergeEducations(master.getEducations(), wrapper.getEducations(), master, changes);
+        mergeCertifications(master.getCertifications(), wrapper.getCertifications(), master, changes);
+
+        if (changes.isEmpty()) {
+            log.info("Profile {} saved without changes", profileId);
+            return changes;
+        }
 
         // 3. 저장
         master.setLastModifiedDate(LocalDateTime.now());
         masterRepo.save(master);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(profileId));
+        log.info("Profile {} saved ({})", profileId, changes);
+        return changes;
     }
 
     // =================================================================================
-    // 3. 스마트 병합 로직 (ID 보존의 핵심)
+    // 3. 스마트 병합 로직 (ID 보존 + 변경분만 반영)
     // =================================================================================
 
-    // 공통 로직: 리스트 병합 템플릿
+    // 공통 로직: 리스트 병합 템플릿 (부모 타입과 무관하게 모든 계층에서 사용)
     private <T> void mergeList(List<T> dbList, List<T> formList,
                                Function<T, Long> idGetter,
-                               BiConsumer<T, T> updater,
-                               BiConsumer<T, ProfileMaster> initializer, // 부모 설정용
-                               ProfileMaster master) {
+                               BiPredicate<T, T> updater,   // 필드가 하나라도 바뀌었으면 true (하위 병합은 내부에서 직접 기록)
+                               Consumer<T> initializer,     // 신규 항목 부모 설정
+                               ToIntFunction<T> treeSize,   // 하위 포함 엔티티 수 (신규/삭제 집계용)
+                               ProfileChangeSet changes) {
         if (formList == null) formList = new ArrayList<>();
 
-        // 1. 삭제 (DB에는 있는데 Form에는 없는 것)
+        // 1. 삭제 (DB에는 있는데 Form에는 없는 것, orphanRemoval로 하위까지 삭제됨)
         Set<Long> formIds = formList.stream()
                 .map(idGetter)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
-        dbList.removeIf(item -> idGetter.apply(item) != null && !formIds.contains(idGetter.apply(item)));
+        Iterator<T> it = dbList.iterator();
+        while (it.hasNext()) {
+            T item = it.next();
+            Long id = idGetter.apply(item);
+            if (id != null && !formIds.contains(id)) {
+                changes.recordDelete(treeSize.applyAsInt(item));
+                it.remove();
+            }
+        }
 
         // 2. 수정 및 추가
         Map<Long, T> dbMap = dbList.stream()
@@ -146,299 +176,282 @@ public class AdminProfileService {
 
         for (T formItem : formList) {
             Long id = idGetter.apply(formItem);
-            if (id != null && dbMap.containsKey(id)) {
-                // [수정] ID가 같으면 내용을 덮어씌움 (객체 교체 X, 필드 값 복사 O)
-                updater.accept(dbMap.get(id), formItem);
+            T dbItem = id != null ? dbMap.get(id) : null;
+            if (dbItem != null) {
+                // [수정] 값이 다른 필드만 복사 (같으면 setter를 부르지 않아 UPDATE 없음)
+                if (updater.test(dbItem, formItem)) {
+                    changes.recordUpdate();
+                }
             } else {
                 // [추가] ID가 없거나 DB에 없으면 새로 추가
-                initializer.accept(formItem, master); // 부모 설정
+                initializer.accept(formItem);
                 dbList.add(formItem);
+                changes.recordInsert(treeSize.applyAsInt(formItem));
             }
         }
     }
 
     // ----------------------------------------------------------------------
-    // 각 엔티티별 구체적인 업데이트 로직 (복사할 필드 지정)
+    // 각 엔티티별 구체적인 업데이트 로직 (비교/복사할 필드 지정)
     // ----------------------------------------------------------------------
 
-    private void mergeSections(List<ProfileSection> dbList, List<ProfileSection> formList, ProfileMaster master) {
+    private boolean mergeConfig(ProfileConfig db, ProfileConfig form) {
+        return assign(db.getFullName(), form.getFullName(), db::setFullName)
+                | assign(db.getCompanyRoleLabel(), form.getCompanyRoleLabel(), db::setCompanyRoleLabel)
+                | assign(db.getAboutParagraph(), form.getAboutParagraph(), db::setAboutParagraph)
+                | assign(db.getPhone(), form.getPhone(), db::setPhone)
+                | assign(db.getEmail(), form.getEmail(), db::setEmail)
+                | assign(db.getGithub(), form.getGithub(), db::setGithub);
+    }
+
+    private void mergeSections(List<ProfileSection> dbList, List<ProfileSection> formList, ProfileMaster master, ProfileChangeSet changes) {
         mergeList(dbList, formList, ProfileSection::getId,
-                (db, form) -> {
-                    db.setSectionName(form.getSectionName());
-                    db.setSectionType(form.getSectionType()); // 타입도 변경 가능하게 할 경우
-                    db.setVisible(form.isVisible());
-                    db.setSortOrder(form.getSortOrder());
-                },
-                (form, m) -> { form.setProfileMaster(m); if(form.getSectionName()==null) form.setSectionName(form.getSectionType().name()); },
-                master
+                (db, form) -> assign(db.getSectionName(), form.getSectionName(), db::setSectionName)
+                        | assign(db.getSectionType(), form.getSectionType(), db::setSectionType) // 타입도 변경 가능하게 할 경우
+                        | assign(db.isVisible(), form.isVisible(), db::setVisible)
+                        | assign(db.getSortOrder(), form.getSortOrder(), db::setSortOrder),
+                form -> { form.setProfileMaster(master); if(form.getSectionName()==null) form.setSectionName(form.getSectionType().name()); },
+                form -> 1,
+                changes
         );
     }
 
-    private void mergeKeyRoles(List<KeyRole> dbList, List<KeyRole> formList, ProfileMaster master) {
+    private void mergeKeyRoles(List<KeyRole> dbList, List<KeyRole> formList, ProfileMaster master, ProfileChangeSet changes) {
         if(formList != null) formList.removeIf(r -> isEmpty(r.getRoleContent()));
         mergeList(dbList, formList, KeyRole::getId,
-                (db, form) -> {
-                    db.setRoleContent(form.getRoleContent());
-                    db.setVisible(form.isVisible());
-                    db.setSortOrder(form.getSortOrder());
-                },
-                (form, m) -> form.setProfileMaster(m),
-                master
+                (db, form) -> assign(db.getRoleContent(), form.getRoleContent(), db::setRoleContent)
+                        | assign(db.isVisible(), form.isVisible(), db::setVisible)
+                        | assign(db.getSortOrder(), form.getSortOrder(), db::setSortOrder),
+                form -> form.setProfileMaster(master),
+                form -> 1,
+                changes
         );
     }
 
-    private void mergeEducations(List<Education> dbList, List<Education> formList, ProfileMaster master) {
+    private void mergeEducations(List<Education> dbList, List<Education> formList, ProfileMaster master, ProfileChangeSet changes) {
         if(formList != null) formList.removeIf(e -> isEmpty(e.getInstitution()));
         mergeList(dbList, formList, Education::getId,
-                (db, form) -> {
-                    db.setInstitution(form.getInstitution());
-                    db.setMajor(form.getMajor());
-                    db.setGpa(form.getGpa());
-                    db.setPeriod(form.getPeriod());
-                    db.setAdditionalInfo(form.getAdditionalInfo());
-                    db.setVisible(form.isVisible());
-                    db.setSortOrder(form.getSortOrder());
-                },
-                (form, m) -> form.setProfileMaster(m),
-                master
+                (db, form) -> assign(db.getInstitution(), form.getInstitution(), db::setInstitution)
+                        | assign(db.getMajor(), form.getMajor(), db::setMajor)
+                        | assign(db.getGpa(), form.getGpa(), db::setGpa)
+                        | assign(db.getPeriod(), form.getPeriod(), db::setPeriod)
+                        | assign(db.getAdditionalInfo(), form.getAdditionalInfo(), db::setAdditionalInfo)
+                        | assign(db.isVisible(), form.isVisible(), db::setVisible)
+                        | assign(db.getSortOrder(), form.getSortOrder(), db::setSortOrder),
+                form -> form.setProfileMaster(master),
+                form -> 1,
+                changes
         );
     }
 
-    private void mergeCertifications(List<Certification> dbList, List<Certification> formList, ProfileMaster master) {
+    private void mergeCertifications(List<Certification> dbList, List<Certification> formList, ProfileMaster master, ProfileChangeSet changes) {
         if(formList != null) formList.removeIf(c -> isEmpty(c.getName()));
         mergeList(dbList, formList, Certification::getId,
-                (db, form) -> {
-                    db.setName(form.getName());
-                    db.setIssueDate(form.getIssueDate());
-                    db.setAdditionalInfo(form.getAdditionalInfo());
-                    db.setVisible(form.isVisible());
-                    db.setSortOrder(form.getSortOrder());
-                },
-                (form, m) -> form.setProfileMaster(m),
-                master
+                (db, form) -> assign(db.getName(), form.getName(), db::setName)
+                        | assign(db.getIssueDate(), form.getIssueDate(), db::setIssueDate)
+                        | assign(db.getAdditionalInfo(), form.getAdditionalInfo(), db::setAdditionalInfo)
+                        | assign(db.isVisible(), form.isVisible(), db::setVisible)
+                        | assign(db.getSortOrder(), form.getSortOrder(), db::setSortOrder),
+                form -> form.setProfileMaster(master),
+                form -> 1,
+                changes
         );
     }
 
     // ★ [중요] 계층 구조가 깊은 Company -> Project -> Meta -> ... 병합
-    private void mergeCompanies(List<Company> dbList, List<Company> formList, ProfileMaster master) {
+    private void mergeCompanies(List<Company> dbList, List<Company> formList, ProfileMaster master, ProfileChangeSet changes) {
         if(formList != null) formList.removeIf(c -> isEmpty(c.getName()));
 
-        // 1. Company 레벨 병합
         mergeList(dbList, formList, Company::getId,
                 (dbComp, formComp) -> {
-                    // 필드 업데이트
-                    dbComp.setName(formComp.getName());
-                    dbComp.setType(formComp.getType());
-                    dbComp.setVisible(formComp.isVisible());
-                    dbComp.setSortOrder(formComp.getSortOrder());
+                    boolean changed = assign(dbComp.getName(), formComp.getName(), dbComp::setName)
+                            | assign(dbComp.getType(), formComp.getType(), dbComp::setType)
+                            | assign(dbComp.isVisible(), formComp.isVisible(), dbComp::setVisible)
+                            | assign(dbComp.getSortOrder(), formComp.getSortOrder(), dbComp::setSortOrder);
 
                     // [재귀 호출] 하위 프로젝트 병합
-                    mergeProjects(dbComp.getProjects(), formComp.getProjects(), dbComp);
+                    mergeProjects(dbComp.getProjects(), formComp.getProjects(), dbComp, changes);
+                    return changed;
                 },
-                (formComp, m) -> {
-                    formComp.setProfileMaster(m);
+                formComp -> {
+                    formComp.setProfileMaster(master);
                     formComp.establishRelationship(); // 신규 생성 시 하위 관계 연결
                 },
-                master
+                this::countTree,
+                changes
         );
     }
 
-    private void mergeProjects(List<ProjectMaster> dbList, List<ProjectMaster> formList, Company parent) {
-        // Project 병합 로직 (Helper 메서드를 못 쓰므로 직접 구현하거나 별도 Helper를 만듦.
-        // 여기서는 패턴이 같으므로 Generic Helper를 활용하기 위해 idGetter 등을 맞춤)
+    private void mergeProjects(List<ProjectMaster> dbList, List<ProjectMaster> formList, Company parent, ProfileChangeSet changes) {
+        mergeList(dbList, formList, ProjectMaster::getId,
+                (dbP, formP) -> {
+                    boolean changed = assign(dbP.getTitle(), formP.getTitle(), dbP::setTitle)
+                            | assign(dbP.getSortOrder(), formP.getSortOrder(), dbP::setSortOrder)
+                            | assign(dbP.isVisible(), formP.isVisible(), dbP::setVisible);
 
-        // * Project는 ProfileMaster가 아니라 Company가 부모이므로 mergeList 파라미터가 안 맞음.
-        // * 따라서 내부 로직을 풀어 씀.
-
-        if (formList == null) formList = new ArrayList<>();
-        Set<Long> formIds = formList.stream().map(ProjectMaster::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(p -> p.getId() != null && !formIds.contains(p.getId()));
-
-        Map<Long, ProjectMaster> dbMap = dbList.stream().collect(Collectors.toMap(ProjectMaster::getId, p -> p));
-
-        for (ProjectMaster formP : formList) {
-            if (formP.getId() != null && dbMap.containsKey(formP.getId())) {
-                ProjectMaster dbP = dbMap.get(formP.getId());
-                dbP.setTitle(formP.getTitle());
-                dbP.setSortOrder(formP.getSortOrder());
-                dbP.setVisible(formP.isVisible());
-                // [재귀] MetaItems 병합
-                mergeMetaItems(dbP.getMetaItems(), formP.getMetaItems(), dbP);
-            } else {
-                formP.setCompany(parent);
-                formP.establishRelationship();
-                dbList.add(formP);
-            }
-        }
+                    // [재귀] MetaItems 병합
+                    mergeMetaItems(dbP.getMetaItems(), formP.getMetaItems(), dbP, changes);
+                    return changed;
+                },
+                formP -> {
+                    formP.setCompany(parent);
+                    formP.establishRelationship();
+                },
+                this::countTree,
+                changes
+        );
     }
 
-    private void mergeMetaItems(List<ProjectMeta> dbList, List<ProjectMeta> formList, ProjectMaster parent) {
-        if (formList == null) formList = new ArrayList<>();
-
+    private void mergeMetaItems(List<ProjectMeta> dbList, List<ProjectMeta> formList, ProjectMaster parent, ProfileChangeSet changes) {
         // [중요] 메타 아이템 자체 필터링 (타입이 없으면 의미 없음)
-        formList.removeIf(m -> m.getItemType() == null);
-
-        Set<Long> formIds = formList.stream().map(ProjectMeta::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(m -> m.getId() != null && !formIds.contains(m.getId()));
-        Map<Long, ProjectMeta> dbMap = dbList.stream().collect(Collectors.toMap(ProjectMeta::getId, m -> m));
-
-        for (ProjectMeta formM : formList) {
-            if (formM.getId() != null && dbMap.containsKey(formM.getId())) {
-                ProjectMeta dbM = dbMap.get(formM.getId());
-                dbM.setItemType(formM.getItemType());
-                dbM.setContent(formM.getContent());
-                dbM.setSortOrder(formM.getSortOrder());
-                dbM.setVisible(formM.isVisible());
-
-                // 하위 병합 호출
-                mergeTechStacks(dbM.getTechStacks(), formM.getTechStacks(), dbM);
-                mergeProblems(dbM.getProblems(), formM.getProblems(), dbM);
-            } else {
-                // 신규 추가 시에도 하위 리스트 검증 필요하므로 일단 추가 후 내부 정리는 JPA가 하기 전에 리스트가 깨끗해야 함.
-                // 하지만 여기선 formM 객체 자체를 넣으므로, formM 내부의 리스트도 정리해줘야 함.
-                if (formM.getTechStacks() != null) formM.getTechStacks().removeIf(t -> isEmpty(t.getTechName()));
-
-                // Problem 내부 정리 로직은 복잡하므로, 일단 부모 설정 후 리스트에 추가
-                formM.setProjectMaster(parent);
-                formM.establishRelationship(); // 여기서 내부 정리된 리스트들의 부모가 설정됨
-
-                // [추가 안전장치] establishRelationship 후 다시 한 번 빈 값 제거
-                if (formM.getTechStacks() != null) formM.getTechStacks().removeIf(t -> isEmpty(t.getTechName()));
+        if (formList != null) formList.removeIf(m -> m.getItemType() == null);
+
+        mergeList(dbList, formList, ProjectMeta::getId,
+                (dbM, formM) -> {
+                    boolean changed = assign(dbM.getItemType(), formM.getItemType(), dbM::setItemType)
+                            | assign(dbM.getContent(), formM.getContent(), dbM::setContent)
+                            | assign(dbM.getSortOrder(), formM.getSortOrder(), dbM::setSortOrder)
+                            | assign(dbM.isVisible(), formM.isVisible(), dbM::setVisible);
+
+                    // 하위 병합 호출
+                    mergeTechStacks(dbM.getTechStacks(), formM.getTechStacks(), dbM, changes);
+                    mergeProblems(dbM.getProblems(), formM.getProblems(), dbM, changes);
+                    return changed;
+                },
+                formM -> {
+                    // 신규 추가 시 formM 객체 자체를 넣으므로 내부 리스트도 정리해줘야 함
+                    if (formM.getTechStacks() != null) formM.getTechStacks().removeIf(t -> isEmpty(t.getTechName()));
+                    if (formM.getProblems() != null) formM.getProblems().removeIf(p -> isEmpty(p.getTitle()));
 
-                dbList.add(formM);
-            }
-        }
+                    formM.setProjectMaster(parent);
+                    formM.establishRelationship(); // 여기서 내부 정리된 리스트들의 부모가 설정됨
+                },
+                this::countTree,
+                changes
+        );
     }
 
-    private void mergeTechStacks(List<ProjectTechStack> dbList, List<ProjectTechStack> formList, ProjectMeta parent) {
-        if (formList == null) formList = new ArrayList<>();
-
+    private void mergeTechStacks(List<ProjectTechStack> dbList, List<ProjectTechStack> formList, ProjectMeta parent, ProfileChangeSet changes) {
         // [핵심 수정] 이름(techName)이 없는 빈 객체(인덱스 채우기용) 제거
-        formList.removeIf(t -> isEmpty(t.getTechName()));
-
-        Set<Long> formIds = formList.stream().map(ProjectTechStack::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(t -> t.getId() != null && !formIds.contains(t.getId()));
-        Map<Long, ProjectTechStack> dbMap = dbList.stream().collect(Collectors.toMap(ProjectTechStack::getId, t -> t));
-
-        for (ProjectTechStack formT : formList) {
-            if (formT.getId() != null && dbMap.containsKey(formT.getId())) {
-                ProjectTechStack dbT = dbMap.get(formT.getId());
-                dbT.setTechName(formT.getTechName());
-                dbT.setSortOrder(formT.getSortOrder());
-                dbT.setVisible(formT.isVisible());
-            } else {
-                formT.setProjectMeta(parent);
-                dbList.add(formT);
-            }
-        }
+        if (formList != null) formList.removeIf(t -> isEmpty(t.getTechName()));
+
+        mergeList(dbList, formList, ProjectTechStack::getId,
+                (dbT, formT) -> assign(dbT.getTechName(), formT.getTechName(), dbT::setTechName)
+                        | assign(dbT.getSortOrder(), formT.getSortOrder(), dbT::setSortOrder)
+                        | assign(dbT.isVisible(), formT.isVisible(), dbT::setVisible),
+                formT -> formT.setProjectMeta(parent),
+                formT -> 1,
+                changes
+        );
     }
 
-    private void mergeProblems(List<Problem> dbList, List<Problem> formList, ProjectMeta parent) {
-        if (formList == null) formList = new ArrayList<>();
-
+    private void mergeProblems(List<Problem> dbList, List<Problem> formList, ProjectMeta parent, ProfileChangeSet changes) {
         // 제목 없는 문제 정의 제거
-        formList.removeIf(p -> isEmpty(p.getTitle()));
-
-        Set<Long> formIds = formList.stream().map(Problem::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(p -> p.getId() != null && !formIds.contains(p.getId()));
-        Map<Long, Problem> dbMap = dbList.stream().collect(Collectors.toMap(Problem::getId, p -> p));
-
-        for (Problem formP : formList) {
-            if (formP.getId() != null && dbMap.containsKey(formP.getId())) {
-                Problem dbP = dbMap.get(formP.getId());
-                dbP.setTitle(formP.getTitle());
-                dbP.setSortOrder(formP.getSortOrder());
+        if (formList != null) formList.removeIf(p -> isEmpty(p.getTitle()));
 
-                mergeSolutions(dbP.getSolutions(), formP.getSolutions(), dbP);
-                mergeImpacts(dbP.getImpacts(), formP.getImpacts(), dbP);
-            } else {
-                formP.setProjectMeta(parent);
-                // 신규 추가 시 내부 리스트 필터링
-                if (formP.getSolutions() != null) formP.getSolutions().removeIf(s -> isEmpty(s.getContent()));
-                if (formP.getImpacts() != null) formP.getImpacts().removeIf(i -> isEmpty(i.getContent()));
+        mergeList(dbList, formList, Problem::getId,
+                (dbP, formP) -> {
+                    boolean changed = assign(dbP.getTitle(), formP.getTitle(), dbP::setTitle)
+                            | assign(dbP.getSortOrder(), formP.getSortOrder(), dbP::setSortOrder);
 
-                formP.establishRelationship();
-                dbList.add(formP);
-            }
-        }
+                    mergeSolutions(dbP.getSolutions(), formP.getSolutions(), dbP, changes);
+                    mergeImpacts(dbP.getImpacts(), formP.getImpacts(), dbP, changes);
+                    return changed;
+                },
+                formP -> {
+                    formP.setProjectMeta(parent);
+                    // 신규 추가 시 내부 리스트 필터링
+                    if (formP.getSolutions() != null) formP.getSolutions().removeIf(s -> isEmpty(s.getContent()));
+                    if (formP.getImpacts() != null) formP.getImpacts().removeIf(i -> isEmpty(i.getContent()));
+                    formP.establishRelationship();
+                },
+                this::countTree,
+                changes
+        );
     }
 
-    private void mergeSolutions(List<Solution> dbList, List<Solution> formList, Problem parent) {
-        if (formList == null) formList = new ArrayList<>();
-
+    private void mergeSolutions(List<Solution> dbList, List<Solution> formList, Problem parent, ProfileChangeSet changes) {
         // [수정] 내용 없는 솔루션 제거
-        formList.removeIf(s -> isEmpty(s.getContent()));
-
-        Set<Long> formIds = formList.stream().map(Solution::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(s -> s.getId() != null && !formIds.contains(s.getId()));
-        Map<Long, Solution> dbMap = dbList.stream().collect(Collectors.toMap(Solution::getId, s -> s));
-        for(Solution formS : formList) {
-            if(formS.getId()!=null && dbMap.containsKey(formS.getId())) {
-                Solution dbS = dbMap.get(formS.getId());
-                dbS.setContent(formS.getContent());
-                dbS.setSortOrder(formS.getSortOrder());
-                dbS.setVisible(formS.isVisible());
-            } else {
-                formS.setProblem(parent);
-                dbList.add(formS);
-            }
-        }
+        if (formList != null) formList.removeIf(s -> isEmpty(s.getContent()));
+
+        mergeList(dbList, formList, Solution::getId,
+                (dbS, formS) -> assign(dbS.getContent(), formS.getContent(), dbS::setContent)
+                        | assign(dbS.getSortOrder(), formS.getSortOrder(), dbS::setSortOrder)
+                        | assign(dbS.isVisible(), formS.isVisible(), dbS::setVisible),
+                formS -> formS.setProblem(parent),
+                formS -> 1,
+                changes
+        );
     }
 
-    private void mergeImpacts(List<Impact> dbList, List<Impact> formList, Problem parent) {
-        if (formList == null) formList = new ArrayList<>();
-
+    private void mergeImpacts(List<Impact> dbList, List<Impact> formList, Problem parent, ProfileChangeSet changes) {
         // [수정] 내용 없는 성과 제거
-        formList.removeIf(i -> isEmpty(i.getContent()));
-
-        Set<Long> formIds = formList.stream().map(Impact::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(i -> i.getId() != null && !formIds.contains(i.getId()));
-        Map<Long, Impact> dbMap = dbList.stream().collect(Collectors.toMap(Impact::getId, i -> i));
-        for(Impact formI : formList) {
-            if(formI.getId()!=null && dbMap.containsKey(formI.getId())) {
-                Impact dbI = dbMap.get(formI.getId());
-                dbI.setContent(formI.getContent());
-                dbI.setSortOrder(formI.getSortOrder());
-                dbI.setVisible(formI.isVisible());
-            } else {
-                formI.setProblem(parent);
-                dbList.add(formI);
-            }
-        }
+        if (formList != null) formList.removeIf(i -> isEmpty(i.getContent()));
+
+        mergeList(dbList, formList, Impact::getId,
+                (dbI, formI) -> assign(dbI.getContent(), formI.getContent(), dbI::setContent)
+                        | assign(dbI.getSortOrder(), formI.getSortOrder(), dbI::setSortOrder)
+                        | assign(dbI.isVisible(), formI.isVisible(), dbI::setVisible),
+                formI -> formI.setProblem(parent),
+                formI -> 1,
+                changes
+        );
     }
 
-    private void mergeSkillCategories(List<SkillCategory> dbList, List<SkillCategory> formList, ProfileMaster master) {
+    private void mergeSkillCategories(List<SkillCategory> dbList, List<SkillCategory> formList, ProfileMaster master, ProfileChangeSet changes) {
         if(formList != null) formList.removeIf(c -> isEmpty(c.getName()));
         mergeList(dbList, formList, SkillCategory::getId,
                 (db, form) -> {
-                    db.setName(form.getName());
-                    db.setSortOrder(form.getSortOrder());
-                    db.setVisible(form.isVisible());
+                    boolean changed = assign(db.getName(), form.getName(), db::setName)
+                            | assign(db.getSortOrder(), form.getSortOrder(), db::setSortOrder)
+                            | assign(db.isVisible(), form.isVisible(), db::setVisible);
                     // 하위 스킬 병합
-                    mergeSkills(db.getSkills(), form.getSkills(), db);
+                    mergeSkills(db.getSkills(), form.getSkills(), db, changes);
+                    return changed;
                 },
-                (form, m) -> { form.setProfileMaster(m); form.establishRelationship(); },
-                master
+                form -> { form.setProfileMaster(master); form.establishRelationship(); },
+                form -> 1 + size(form.getSkills()),
+                changes
         );
     }
 
-    private void mergeSkills(List<Skill> dbList, List<Skill> formList, SkillCategory parent) {
-        if (formList == null) formList = new ArrayList<>();
-        Set<Long> formIds = formList.stream().map(Skill::getId).filter(Objects::nonNull).collect(Collectors.toSet());
-        dbList.removeIf(s -> s.getId() != null && !formIds.contains(s.getId()));
-        Map<Long, Skill> dbMap = dbList.stream().collect(Collectors.toMap(Skill::getId, s -> s));
-
-        for (Skill formS : formList) {
-            if (formS.getId() != null && dbMap.containsKey(formS.getId())) {
-                Skill dbS = dbMap.get(formS.getId());
-                dbS.setName(formS.getName());
-                dbS.setSortOrder(formS.getSortOrder());
-                dbS.setVisible(formS.isVisible());
-            } else {
-                formS.setCategory(parent);
-                dbList.add(formS);
-            }
-        }
+    private void mergeSkills(List<Skill> dbList, List<Skill> formList, SkillCategory parent, ProfileChangeSet changes) {
+        mergeList(dbList, formList, Skill::getId,
+                (dbS, formS) -> assign(dbS.getName(), formS.getName(), dbS::setName)
+                        | assign(dbS.getSortOrder(), formS.getSortOrder(), dbS::setSortOrder)
+                        | assign(dbS.isVisible(), formS.isVisible(), dbS::setVisible),
+                formS -> formS.setCategory(parent),
+                formS -> 1,
+                changes
+        );
+    }
+
+    // ----------------------------------------------------------------------
+    // 하위 포함 엔티티 수 (신규 추가/삭제 집계용)
+    // ----------------------------------------------------------------------
+
+    private int countTree(Company company) {
+        return 1 + sum(company.getProjects(), this::countTree);
+    }
+
+    private int countTree(ProjectMaster project) {
+        return 1 + sum(project.getMetaItems(), this::countTree);
+    }
+
+    private int countTree(ProjectMeta meta) {
+        return 1 + size(meta.getTechStacks()) + sum(meta.getProblems(), this::countTree);
+    }
+
+    private int countTree(Problem problem) {
+        return 1 + size(problem.getSolutions()) + size(problem.getImpacts());
+    }
+
+    private <T> int sum(List<T> list, ToIntFunction<T> counter) {
+        return list == null ? 0 : list.stream().mapToInt(counter).sum();
+    }
+
+    private int size(List<?> list) {
+        return list == null ? 0 : list.size();
     }
 
     // =================================================================================
@@ -512,8 +525,8 @@ public class AdminProfileService {
         return registered;
     }
 
-    @CacheEvict(value = "portfolio", key = "'activeProfile'")
     public void deleteProfile(Long profileId) {
         masterRepo.deleteById(profileId);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(profileId));
     }
 }
\ No newline at end of file
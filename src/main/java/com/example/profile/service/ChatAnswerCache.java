@@ -0,0 +1,144 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ChatRequestDto;
+import com.example.profile.dto.ChatStreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 대화 이력 없는 첫 질문의 답변(SSE 이벤트 순서 그대로)을 포트폴리오 버전별로 캐싱
+// 같은 질문이 다시 오면 Gemini 호출 없이 저장된 이벤트를 그대로 다시 흘려보냄
+@Slf4j
+@Component
+public class ChatAnswerCache {
+
+    static final String CACHE_NAME = "chatAnswers";
+
+    // 문장부호/기호는 지우되, 기술 이름에 쓰이는 것(C++, C#, Node.js)은 단어에 붙어 있으면 남김
+    private static final Pattern PUNCTUATION = Pattern.compile("[\\p{P}\\p{S}&&[^+#.]]+");
+    private static final Pattern LOOSE_DOT = Pattern.compile("(?<![\\p{L}\\p{N}])\\.|\\.(?![\\p{L}\\p{N}])");
+    private static final Pattern LOOSE_PLUS_HASH = Pattern.compile("(?<![\\p{L}\\p{N}+#])[+#]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CacheManager cacheManager;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final DistributionSummary savedLatency;
+
+    public ChatAnswerCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.bypasses = requestCounter(meterRegistry, "bypass");
+        this.savedLatency = DistributionSummary.builder("chat.answer.cache.saved.latency")
+                .description("Upstream latency avoided by replaying a cached answer")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry registry, String result) {
+        return Counter.builder("chat.answer.cache.requests")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    // 캐싱 대상이 아니면 null (대화 이력이 있는 질문은 맥락에 따라 답이 달라지므로 제외)
+    public String keyFor(ChatRequestDto request, String profileVersion) {
+        if (request.getHistory() != null && !request.getHistory().isEmpty()) {
+            bypasses.increment();
+            return null;
+        }
+        String normalized = normalize(request.getNewMessage());
+        if (normalized.isEmpty()) {
+            bypasses.increment();
+            return null;
+        }
+        return profileVersion + ":" + sha256(normalized);
+    }
+
+    public CachedAnswer find(String key) {
+        CachedAnswer answer;
+        try {
+            answer = cache().get(key, CachedAnswer.class);
+        } catch (RuntimeException e) {
+            // 캐시 장애가 챗봇 자체를 막지 않도록 미스로 처리
+            log.debug("Chat answer cache lookup failed: {}", e.getMessage());
+            answer = null;
+        }
+        if (answer == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        savedLatency.record(answer.getUpstreamMillis());
+        return answer;
+    }
+
+    public void store(String key, List<ChatStreamEvent> events, long upstreamMillis) {
+        if (events.stream().noneMatch(e -> ChatStreamEvent.DELTA.equals(e.getEventName()))) {
+            return; // 텍스트 없이 끝난 응답은 저장하지 않음
+        }
+        try {
+            cache().put(key, new CachedAnswer(new ArrayList<>(events), upstreamMillis));
+        } catch (RuntimeException e) {
+            log.debug("Chat answer cache store failed: {}", e.getMessage());
+            return;
+        }
+        log.debug("Chat answer cached (key={}, {} events, upstream {} ms)", key, events.size(), upstreamMillis);
+    }
+
+    // "어떤 기술 스택을 쓰나요?" == "어떤  기술 스택을 쓰나요" == "어떤 기술스택을 쓰나요 ?!"
+    // "C++ 경험은?" != "C# 경험은?" != "C 경험은?"
+    static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String s = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        s = PUNCTUATION.matcher(s).replaceAll(" ");
+        s = LOOSE_DOT.matcher(s).replaceAll(" ");
+        s = LOOSE_PLUS_HASH.matcher(s).replaceAll(" ");
+        return WHITESPACE.matcher(s).replaceAll("");
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Redis(default typing JSON)에 저장되므로 final/record가 아닌 일반 클래스로 둠
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedAnswer {
+        private List<ChatStreamEvent> events;
+        private long upstreamMillis; // 원래 Gemini 응답 완료까지 걸린 시간
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ChatStreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Gemini 스트리밍 호출 동시 실행 수 제한 (IP별 요청 제한과 별개로, 여러 IP가 한꺼번에 몰려도 업스트림 쿼터를 넘지 않도록)
+// 한도를 넘으면 클라이언트(IP)별 대기열에 넣고 클라이언트 간 round-robin으로 꺼내, 한 IP가 대기열을 독점하지 못하게 함
+// 대기 중인 요청에는 순번이 바뀔 때마다 status 이벤트를 보내고, 대기열이 가득 차거나 너무 오래 기다리면 거절
+@Slf4j
+@Component
+public class ChatBulkhead {
+
+    @Value("${app.chat.bulkhead.max-concurrent:4}")
+    private int maxConcurrent = 4;
+
+    @Value("${app.chat.bulkhead.max-queue:50}")
+    private int maxQueue = 50;
+
+    @Value("${app.chat.bulkhead.max-queue-per-client:2}")
+    private int maxQueuePerClient = 2;
+
+    @Value("${app.chat.bulkhead.max-wait:20s}")
+    private Duration maxWait = Duration.ofSeconds(20);
+
+    // 아래 상태는 모두 lock으로 보호 (sink 호출/업스트림 구독은 lock 밖에서)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, ArrayDeque<Waiter>> queues = new LinkedHashMap<>(); // 꺼낼 차례 순서
+    private int active;
+    private int queued;
+
+    private final Counter immediate;
+    private final Counter enqueued;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    private final Timer queueWait;
+
+    public ChatBulkhead(MeterRegistry meterRegistry) {
+        Gauge.builder("chat.bulkhead.active", this, b -> b.active)
+                .description("Upstream chat streams currently running")
+                .register(meterRegistry);
+        Gauge.builder("chat.bulkhead.queued", this, b -> b.queued)
+                .description("Chat requests waiting for an upstream slot")
+                .register(meterRegistry);
+        this.immediate = requestCounter(meterRegistry, "immediate");
+        this.enqueued = requestCounter(meterRegistry, "queued");
+        this.rejectedQueueFull = rejectedCounter(meterRegistry, "queue_full");
+        this.rejectedTimeout = rejectedCounter(meterRegistry, "timeout");
+        this.queueWait = Timer.builder("chat.bulkhead.wait")
+                .description("Time spent waiting for an upstream slot")
+                .register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry registry, String admission) {
+        return Counter.builder("chat.bulkhead.requests").tag("admission", admission).register(registry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("chat.bulkhead.rejected").tag("reason", reason).register(registry);
+    }
+
+    // call은 슬롯을 얻은 뒤에야 구독됨 (그 전까지 업스트림 연결을 열지 않음)
+    // 대기/거절 status 이벤트만 Flux.create로 내보내고, 슬롯을 얻으면 그 Flux를 끝낸 뒤 call을 concat으로 이어 붙임
+    // -> 다운스트림 요청량(publishOn의 prefetch)이 그대로 call까지 전달되어 느린 클라이언트의 배압이 업스트림에 걸림
+    // 슬롯 반납은 전체 스트림의 doFinally 한 곳에서 (대기 중/실행 중 취소, 완료, 에러, 슬롯을 얻자마자 취소 모두)
+    public Flux<ChatStreamEvent> run(String clientKey, Flux<ChatStreamEvent> call) {
+        return Flux.defer(() -> {
+            Waiter waiter = new Waiter(clientKey);
+            return Flux.<ChatStreamEvent>create(sink -> {
+                        waiter.sink = sink;
+                        admit(waiter);
+                    })
+                    .concatWith(Flux.defer(() -> waiter.state == State.RUNNING ? call : Flux.empty()))
+                    .doFinally(signal -> finish(waiter));
+        });
+    }
+
+    private void admit(Waiter waiter) {
+        List<Update> updates;
+        lock.lock();
+        try {
+            if (active < maxConcurrent && queued == 0) {
+                active++;
+                waiter.state = State.RUNNING;
+                immediate.increment();
+                updates = List.of();
+            } else if (queued >= maxQueue || queueOf(waiter.clientKey).size() >= maxQueuePerClient) {
+                waiter.state = State.DONE;
+                rejectedQueueFull.increment();
+                updates = null;
+            } else {
+                queues.computeIfAbsent(waiter.clientKey, k -> new ArrayDeque<>()).addLast(waiter);
+                queued++;
+                waiter.enqueuedAt = System.nanoTime();
+                enqueued.increment();
+                updates = positionUpdates();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (updates == null) {
+            log.debug("Chat request rejected, queue full (client={})", waiter.clientKey);
+            waiter.reject();
+        } else if (waiter.state == State.RUNNING) {
+            waiter.grant();
+        } else {
+            waiter.timeout = Mono.delay(maxWait).subscribe(t -> expire(waiter));
+            updates.forEach(Update::send);
+        }
+    }
+
+    // 대기 중 클라이언트가 연결을 끊었거나, 실행 중 스트림이 끝났거나/취소됨 (거절/만료된 요청은 할 일 없음)
+    private void finish(Waiter waiter) {
+        State previous;
+        List<Update> updates = List.of();
+        lock.lock();
+        try {
+            previous = waiter.state;
+            if (previous == State.QUEUED) {
+                dequeue(waiter);
+                updates = positionUpdates();
+            }
+            waiter.state = State.DONE;
+        } finally {
+            lock.unlock();
+        }
+
+        if (previous == State.QUEUED) {
+            waiter.disposeTimeout();
+            updates.forEach(Update::send);
+        } else if (previous == State.RUNNING) {
+            release();
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        List<Update> updates;
+        lock.lock();
+        try {
+            if (waiter.state != State.QUEUED) return;
+            dequeue(waiter);
+            waiter.state = State.DONE;
+            rejectedTimeout.increment();
+            updates = positionUpdates();
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Chat request rejected after waiting {} (client={})", maxWait, waiter.clientKey);
+        waiter.reject();
+        updates.forEach(Update::send);
+    }
+
+    // 슬롯 반납 후 다음 차례 클라이언트의 가장 오래된 요청을 실행
+    private void release() {
+        Waiter next = null;
+        List<Update> updates = List.of();
+        lock.lock();
+        try {
+            active--;
+            if (queued > 0) {
+                next = pollNext();
+                active++;
+                next.state = State.RUNNING;
+                updates = positionUpdates();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (next != null) {
+            queueWait.record(System.nanoTime() - next.enqueuedAt, TimeUnit.NANOSECONDS);
+            next.disposeTimeout();
+            next.grant();
+            updates.forEach(Update::send);
+        }
+    }
+
+    // ===== 아래는 lock을 잡은 상태에서만 호출 =====
+
+    private Deque<Waiter> queueOf(String clientKey) {
+        return queues.getOrDefault(clientKey, new ArrayDeque<>(0));
+    }
+
+    // 맨 앞 클라이언트의 첫 요청을 꺼내고, 남은 요청이 있으면 그 클라이언트를 맨 뒤로 보냄
+    private Waiter pollNext() {
+        Iterator<Map.Entry<String, ArrayDeque<Waiter>>> it = queues.entrySet().iterator();
+        Map.Entry<String, ArrayDeque<Waiter>> first = it.next();
+        String clientKey = first.getKey();
+        ArrayDeque<Waiter> queue = first.getValue();
+        it.remove();
+        Waiter waiter = queue.pollFirst();
+        if (!queue.isEmpty()) {
+            queues.put(clientKey, queue);
+        }
+        queued--;
+        return waiter;
+    }
+
+    private void dequeue(Waiter waiter) {
+        ArrayDeque<Waiter> queue = queues.get(waiter.clientKey);
+        if (queue != null && queue.remove(waiter)) {
+            queued--;
+            if (queue.isEmpty()) {
+                queues.remove(waiter.clientKey);
+            }
+        }
+    }
+
+    // round-robin으로 꺼낼 순서대로 순번을 다시 매기고, 순번이 바뀐 요청만 알림 대상으로 모음
+    private List<Update> positionUpdates() {
+        List<Update> updates = new ArrayList<>();
+        List<Iterator<Waiter>> rounds = new ArrayList<>();
+        queues.values().forEach(q -> rounds.add(q.iterator()));
+        int position = 0;
+        while (!rounds.isEmpty()) {
+            Iterator<Iterator<Waiter>> it = rounds.iterator();
+            while (it.hasNext()) {
+                Iterator<Waiter> queue = it.next();
+                if (!queue.hasNext()) {
+                    it.remove();
+                    continue;
+                }
+                Waiter waiter = queue.next();
+                position++;
+                if (waiter.position != position) {
+                    waiter.position = position;
+                    updates.add(new Update(waiter, position));
+                }
+            }
+        }
+        return updates;
+    }
+
+    private enum State { QUEUED, RUNNING, DONE }
+
+    private static class Waiter {
+        private final String clientKey;
+        private FluxSink<ChatStreamEvent> sink; // admit() 전에 설정되고 이후 lock을 거쳐 다른 스레드에 보임
+        private volatile State state = State.QUEUED; // 변경은 lock 안에서만, run()의 concat에서 lock 없이 읽음
+        private int position;
+        private long enqueuedAt;
+        private volatile Disposable timeout;
+
+        Waiter(String clientKey) {
+            this.clientKey = clientKey;
+        }
+
+        // status 이벤트 구간을 끝내면 run()의 concat이 call을 구독함
+        void grant() {
+            sink.complete();
+        }
+
+        void reject() {
+            sink.next(ChatStreamEvent.rejected());
+            sink.complete();
+        }
+
+        void disposeTimeout() {
+            Disposable d = timeout;
+            if (d != null) d.dispose();
+        }
+    }
+
+    private record Update(Waiter waiter, int position) {
+        void send() {
+            waiter.sink.next(ChatStreamEvent.queued(position));
+        }
+    }
+}
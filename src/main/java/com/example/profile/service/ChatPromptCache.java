@@ -0,0 +1,101 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ProfileResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 챗봇 system_instruction 페이로드 조립
+// 질문과 무관한 고정 부분(페르소나 + 포트폴리오 데이터)은 버전별로 한 번만 JSON 인코딩해 UTF-8 바이트로 보관하고,
+// retrieval 방식일 때만 질문별 발췌 part를 뒤에 덧붙임
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPromptCache {
+
+    // 포트폴리오 데이터 표현 방식
+    // retrieval: 요약 개요 + 질문 관련 발췌, outline: 전체 텍스트 개요, json: 기존 방식/디버깅용
+    public enum PromptFormat { RETRIEVAL, OUTLINE, JSON }
+
+    static final String PERSONA = "너는 백엔드 개발자 '이경석'의 포트폴리오 안내 챗봇이야. " +
+            "반드시 제공된 포트폴리오 데이터만을 기반으로 답변해. " +
+            "포트폴리오 내용과 관련 없는 질문은 단호하게 거절해. 모르는 내용은 지어내지 마.\n" +
+            "데이터:\n";
+
+    private static final byte[] PARTS_PREFIX = "{\"parts\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PARTS_SUFFIX = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final PortfolioPromptRenderer promptRenderer;
+    private final PortfolioRetriever retriever;
+
+    @Value("${app.chat.prompt-format:retrieval}")
+    private PromptFormat promptFormat = PromptFormat.RETRIEVAL;
+
+    // 공개 포트폴리오는 하나뿐이므로 최신 버전 하나만 보관 (버전이 바뀌면 자연히 다시 만들어짐)
+    private final AtomicReference<CachedPrompt> current = new AtomicReference<>();
+
+    // {"parts":[{"text":"<페르소나 + 데이터>"}(,{"text":"<관련 내용>"})]}
+    public byte[] systemInstruction(ProfileResponseDTO profile, String query) throws IOException {
+        byte[] basePart = basePart(profile);
+        String passages = promptFormat == PromptFormat.RETRIEVAL ? retriever.relevantPassages(profile, query) : null;
+        byte[] passagePart = passages != null ? objectMapper.writeValueAsBytes(Map.of("text", passages)) : null;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(basePart.length + (passagePart != null ? passagePart.length : 0) + 16);
+        out.write(PARTS_PREFIX);
+        out.write(basePart);
+        if (passagePart != null) {
+            out.write(',');
+            out.write(passagePart);
+        }
+        out.write(PARTS_SUFFIX);
+        return out.toByteArray();
+    }
+
+    // {"text":"..."}
+    private byte[] basePart(ProfileResponseDTO profile) throws JsonProcessingException {
+        CachedPrompt cached = current.get();
+        if (cached != null && cached.getVersion().equals(profile.getVersion())) {
+            return cached.getPayload();
+        }
+
+        String data = switch (promptFormat) {
+            case RETRIEVAL -> promptRenderer.renderSummary(profile);
+            case OUTLINE -> promptRenderer.render(profile);
+            case JSON -> objectMapper.writeValueAsString(profile);
+        };
+        byte[] payload = objectMapper.writeValueAsBytes(Map.of("text", PERSONA + data));
+        current.set(new CachedPrompt(profile.getVersion(), payload));
+        log.info("Chat system prompt built (version={}, format={}, data {} chars, payload {} bytes)",
+                profile.getVersion(), promptFormat, data.length(), payload.length);
+
+        // JSON 대비 절감량은 비교용 전체 직렬화가 필요하므로 debug일 때만 계산
+        if (log.isDebugEnabled()) {
+            int json = promptFormat == PromptFormat.JSON ? data.length() : objectMapper.writeValueAsString(profile).length();
+            log.debug("Chat system prompt data {} chars vs json {} chars ({}% of json)",
+                    data.length(), json, percent(data.length(), json));
+        }
+        return payload;
+    }
+
+    private static long percent(int part, int whole) {
+        return whole == 0 ? 100 : Math.round(part * 100.0 / whole);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class CachedPrompt {
+        private final String version;
+        private final byte[] payload;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ChatStreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 클라이언트 연결 종료/타임아웃으로 중간에 끊은 챗봇 스트림 수와, 끊어서 아낀 출력 토큰 추정치
+// 정상 완료된 답변의 done 이벤트(출력 토큰 수, 글자 수)로 지수 이동 평균을 유지하고,
+// 끊긴 스트림은 "평균 답변 토큰 - 이미 받은 글자 수 x 글자당 토큰"만큼 아낀 것으로 봄
+@Slf4j
+@Component
+public class ChatStreamMetrics {
+
+    private static final double ALPHA = 0.2;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter tokensSaved;
+    private final AtomicReference<Average> average = new AtomicReference<>();
+
+    public ChatStreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.tokensSaved = Counter.builder("chat.stream.tokens.saved")
+                .description("Estimated upstream output tokens not generated because the stream was cancelled")
+                .baseUnit("tokens")
+                .register(meterRegistry);
+    }
+
+    public Tracked track() {
+        return new Tracked();
+    }
+
+    private void cancelled(String reason, long deliveredChars) {
+        Counter.builder("chat.stream.cancelled").tag("reason", reason).register(meterRegistry).increment();
+        Average avg = average.get();
+        if (avg != null) {
+            double saved = avg.outputTokens - deliveredChars * avg.tokensPerChar;
+            if (saved > 0) {
+                tokensSaved.increment(saved);
+            }
+        }
+        log.debug("Chat stream cancelled (reason={}, delivered {} chars)", reason, deliveredChars);
+    }
+
+    private void completed(int outputTokens, long chars) {
+        if (chars == 0) return;
+        double tokensPerChar = (double) outputTokens / chars;
+        average.updateAndGet(prev -> prev == null
+                ? new Average(outputTokens, tokensPerChar)
+                : new Average(prev.outputTokens + ALPHA * (outputTokens - prev.outputTokens),
+                        prev.tokensPerChar + ALPHA * (tokensPerChar - prev.tokensPerChar)));
+    }
+
+    private record Average(double outputTokens, double tokensPerChar) {
+    }
+
+    // 스트림 하나의 진행 상태 (종료/취소 중 먼저 온 쪽만 반영)
+    public class Tracked {
+
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile long deliveredChars; // onNext(단일 스레드)에서만 증가
+
+        public void onEvent(ChatStreamEvent event) {
+            if (event.getText() != null) {
+                deliveredChars += event.getText().length();
+            } else if (ChatStreamEvent.DONE.equals(event.getEventName()) && event.getOutputTokens() != null) {
+                completed(event.getOutputTokens(), deliveredChars);
+            }
+        }
+
+        // 업스트림이 스스로 끝났으면 이후의 emitter 완료 콜백은 취소로 세지 않음
+        public void finish() {
+            finished.set(true);
+        }
+
+        public void cancel(Disposable subscription, String reason) {
+            if (finished.compareAndSet(false, true)) {
+                subscription.dispose();
+                cancelled(reason, deliveredChars);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ContactInfoDTO;
+import com.example.profile.dto.ProfileResponseDTO;
+import com.example.profile.repository.ProfileConfigRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 연락처 보기(/api/contact/reveal) 응답을 노드 메모리에 캐싱
+// 공개 중인 이력서는 스냅샷 버전을 키에 넣어, 다른 노드에서 저장되어 버전이 바뀌어도 자연히 새로 읽음
+// 같은 노드에서 저장/활성화/삭제되면 커밋 직후 이벤트로 세대(키의 일부)를 올려 이전 엔트리를 모두 버림
+// (커밋 전 값을 읽던 로딩이 나중에 끝나 값을 넣더라도 이전 세대 키라 다시 조회되지 않음)
+@Service
+@RequiredArgsConstructor
+public class ContactInfoService {
+
+    private static final String INACTIVE = "inactive";
+
+    private final ProfileConfigRepository configRepo;
+    private final FrontProfileService frontProfileService;
+
+    // 비공개 이력서 키는 버전을 알 수 없으므로 만료 시간으로 상한을 둠
+    private final Cache<ContactKey, ContactInfoDTO> cache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    // 커밋된 변경마다 증가 (관리자 저장은 드물어서 프로필 구분 없이 하나로 충분)
+    private final AtomicLong generation = new AtomicLong();
+
+    public ContactInfoDTO getContactInfo(Long profileId) {
+        // 세대는 DB를 읽기 전에 정해야 함
+        ContactKey contactKey = new ContactKey(profileId, versionOf(profileId), generation.get());
+        return cache.get(contactKey, key -> configRepo.findContactInfo(key.profileId()).orElse(ContactInfoDTO.EMPTY));
+    }
+
+    // 공개 스냅샷은 캐시에서 오므로 DB를 읽지 않음
+    private String versionOf(Long profileId) {
+        ProfileResponseDTO snapshot = frontProfileService.getPublicProfile();
+        return profileId.equals(snapshot.getProfileId()) ? snapshot.getVersion() : INACTIVE;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        // 진행 중인 로딩을 기다리지 않도록 비우지 않고 세대만 올림 (이전 세대는 만료/최대 개수로 정리됨)
+        generation.incrementAndGet();
+    }
+
+    private record ContactKey(Long profileId, String version, long generation) {
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.profile.service;
 
-import com.example.profile.dto.ProfileWrapper;
+import com.example.profile.dto.*;
 import com.example.profile.model.*;
 import com.example.profile.repository.ProfileMasterRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,9 +8,12 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -19,102 +22,124 @@ public class FrontProfileService {
 
     private final ProfileMasterRepository masterRepo;
 
-    @Cacheable(value = "portfolio", key = "'activeProfile'")
-    public ProfileWrapper getPublicProfile() {
-        ProfileWrapper wrapper = new ProfileWrapper();
+    // 엔티티를 직접 건드리지 않고, 노출/정렬이 끝난 불변 스냅샷을 한 번만 조립해서 캐시에 올림
+    // sync = true: 캐시 미스 시 동시 요청들이 한 번의 로딩 결과를 함께 사용 (TwoTierCache의 single-flight)
+    @Cacheable(value = "portfolio", key = "'activeProfile'", sync = true)
+    public ProfileResponseDTO getPublicProfile() {
+        // 캐시 미스 시에도 트리 전체를 고정된 쿼리 수로 로딩 (지연 로딩 N+1 방지)
+        return masterRepo.findActiveProfileGraph()
+                .map(this::toSnapshot)
+                .orElseGet(ProfileResponseDTO::empty); // 빈 객체 반환 (화면에 아무것도 안 나옴)
+    }
 
-        ProfileMaster activeProfile = masterRepo.findByIsActiveTrue().orElse(null);
+    // 관리자 변경이 커밋된 뒤 캐시를 거치지 않고 새 스냅샷을 조립
+    // (캐시 교체는 재생성 순서를 맞추는 PortfolioSnapshotRefresher가 담당)
+    public ProfileResponseDTO rebuildPublicProfile() {
+        return masterRepo.findActiveProfileGraph()
+                .map(this::toSnapshot)
+                .orElseGet(ProfileResponseDTO::empty);
+    }
 
-        if (activeProfile == null) {
-            return wrapper; // 빈 객체 반환 (화면에 아무것도 안 나옴)
+    private ProfileResponseDTO toSnapshot(ProfileMaster master) {
+        ProfileResponseDTO.ProfileResponseDTOBuilder builder = ProfileResponseDTO.builder()
+                .profileId(master.getId())
+                .version(versionOf(master))
+                .builtAt(System.currentTimeMillis());
+
+        // 1. Config (1:1 관계이므로 바로 가져옴)
+        ProfileConfig config = master.getConfig();
+        if (config != null) {
+            builder.fullName(config.getFullName())
+                    .jobTitle(config.getCompanyRoleLabel())
+                    .email(config.getEmail())
+                    .phone(config.getPhone())
+                    .github(config.getGithub())
+                    .aboutParagraph(config.getAboutParagraph());
         }
 
-        wrapper.setProfileId(activeProfile.getId());
-        wrapper.setProfileTitle(activeProfile.getTitle());
-
-        // 2. Config (1:1 관계이므로 바로 가져옴)
-        wrapper.setConfig(activeProfile.getConfig());
-
-        // 3. Sections
-        List<ProfileSection> sections = activeProfile.getSections().stream()
-                .filter(ProfileSection::isVisible)
-                .sorted(Comparator.comparingInt(ProfileSection::getSortOrder))
-                .collect(Collectors.toList());
-        wrapper.setSections(sections);
-
-        // 4. Key Roles
-        List<KeyRole> roles = activeProfile.getKeyRoles().stream()
-                .filter(KeyRole::isVisible)
-                .sorted(Comparator.comparingInt(KeyRole::getSortOrder))
-                .collect(Collectors.toList());
-        wrapper.setKeyRoles(roles);
-
-        // 5. Skills
-        List<SkillCategory> categories = activeProfile.getSkillCategories().stream()
-                .filter(SkillCategory::isVisible)
-                .sorted(Comparator.comparingInt(SkillCategory::getSortOrder))
-                .peek(cat -> {
-                    List<Skill> visibleSkills = cat.getSkills().stream()
-                            .filter(Skill::isVisible)
-                            .sorted(Comparator.comparingInt(Skill::getSortOrder))
-                            .collect(Collectors.toList());
-                    cat.setSkills(visibleSkills);
-                })
-                .collect(Collectors.toList());
-        wrapper.setSkillCategories(categories);
-
-        // 6. Experience (Deep Filtering)
-        List<Company> companies = activeProfile.getCompanies().stream()
-                .filter(Company::isVisible)
-                .sorted(Comparator.comparingInt(Company::getSortOrder))
-                .peek(comp -> {
-                    List<ProjectMaster> visibleProjects = comp.getProjects().stream()
-                            .filter(ProjectMaster::isVisible)
-                            .sorted(Comparator.comparingInt(ProjectMaster::getSortOrder))
-                            .peek(proj -> {
-                                List<ProjectMeta> visibleMeta = proj.getMetaItems().stream()
-                                        .filter(ProjectMeta::isVisible)
-                                        .sorted(Comparator.comparingInt(ProjectMeta::getSortOrder))
-                                        .peek(meta -> {
-                                            if (meta.getTechStacks() != null) {
-                                                meta.setTechStacks(meta.getTechStacks().stream()
-                                                        .filter(ProjectTechStack::isVisible)
-                                                        .sorted(Comparator.comparingInt(ProjectTechStack::getSortOrder))
-                                                        .collect(Collectors.toList()));
-                                            }
-                                            if (meta.getProblems() != null) {
-                                                meta.setProblems(meta.getProblems().stream()
-                                                        .sorted(Comparator.comparingInt(Problem::getSortOrder))
-                                                        .peek(prob -> {
-                                                            if(prob.getSolutions() != null) prob.setSolutions(prob.getSolutions().stream().filter(Solution::isVisible).sorted(Comparator.comparingInt(Solution::getSortOrder)).collect(Collectors.toList()));
-                                                            if(prob.getImpacts() != null) prob.setImpacts(prob.getImpacts().stream().filter(Impact::isVisible).sorted(Comparator.comparingInt(Impact::getSortOrder)).collect(Collectors.toList()));
-                                                        })
-                                                        .collect(Collectors.toList()));
-                                            }
-                                        })
-                                        .collect(Collectors.toList());
-                                proj.setMetaItems(visibleMeta);
-                            })
-                            .collect(Collectors.toList());
-                    comp.setProjects(visibleProjects);
-                })
-                .collect(Collectors.toList());
-        wrapper.setCompanies(companies);
-
-        // 7. Education
-        List<Education> educations = activeProfile.getEducations().stream()
-                .filter(Education::isVisible)
-                .sorted(Comparator.comparingInt(Education::getSortOrder))
-                .collect(Collectors.toList());
-        wrapper.setEducations(educations);
-
-        // 8. Certification
-        List<Certification> certifications = activeProfile.getCertifications().stream()
-                .filter(Certification::isVisible)
-                .sorted(Comparator.comparingInt(Certification::getSortOrder))
-                .collect(Collectors.toList());
-        wrapper.setCertifications(certifications);
-
-        return wrapper;
+        // 2. Sections
+        builder.sections(visibleSorted(master.getSections(), ProfileSection::isVisible, ProfileSection::getSortOrder,
+                s -> SectionDTO.builder().sectionType(s.getSectionType()).sectionName(s.getSectionName()).build()));
+
+        // 3. Key Roles
+        builder.keyRoles(visibleSorted(master.getKeyRoles(), KeyRole::isVisible, KeyRole::getSortOrder,
+                r -> KeyRoleDTO.builder().roleContent(r.getRoleContent()).build()));
+
+        // 4. Skills
+        builder.skillCategories(visibleSorted(master.getSkillCategories(), SkillCategory::isVisible, SkillCategory::getSortOrder,
+                cat -> SkillCategoryDTO.builder()
+                        .name(cat.getName())
+                        .skills(visibleSorted(cat.getSkills(), Skill::isVisible, Skill::getSortOrder, Skill::getName))
+                        .build()));
+
+        // 5. Experience (Deep Filtering)
+        builder.projectGroups(visibleSorted(master.getCompanies(), Company::isVisible, Company::getSortOrder, this::toProjectGroup));
+
+        // 6. Education
+        builder.educations(visibleSorted(master.getEducations(), Education::isVisible, Education::getSortOrder,
+                e -> EducationDTO.builder()
+                        .institution(e.getInstitution())
+                        .period(e.getPeriod())
+                        .major(e.getMajor())
+                        .gpa(e.getGpa())
+                        .additionalInfo(e.getAdditionalInfo())
+                        .build()));
+
+        // 7. Certification
+        builder.certifications(visibleSorted(master.getCertifications(), Certification::isVisible, Certification::getSortOrder,
+                c -> CertificationDTO.builder()
+                        .name(c.getName())
+                        .issueDate(c.getIssueDate())
+                        .additionalInfo(c.getAdditionalInfo())
+                        .build()));
+
+        return builder.build();
+    }
+
+    private ProjectGroupDTO toProjectGroup(Company comp) {
+        return ProjectGroupDTO.builder()
+                .groupName(comp.getName())
+                .groupType(comp.getType())
+                .projects(visibleSorted(comp.getProjects(), ProjectMaster::isVisible, ProjectMaster::getSortOrder,
+                        proj -> ProjectDTO.builder()
+                                .title(proj.getTitle())
+                                .projectItems(visibleSorted(proj.getMetaItems(), ProjectMeta::isVisible, ProjectMeta::getSortOrder, this::toProjectItem))
+                                .build()))
+                .build();
+    }
+
+    private ProjectItemDTO toProjectItem(ProjectMeta meta) {
+        return ProjectItemDTO.builder()
+                .itemType(meta.getItemType())
+                .content(meta.getContent())
+                .techStacks(visibleSorted(meta.getTechStacks(), ProjectTechStack::isVisible, ProjectTechStack::getSortOrder, ProjectTechStack::getTechName))
+                // 문제 정의(Problem)는 노출 여부와 관계없이 모두 보여줌 (기존 동작 유지)
+                .problems(visibleSorted(meta.getProblems(), p -> true, Problem::getSortOrder,
+                        prob -> ProblemDTO.builder()
+                                .title(prob.getTitle())
+                                .solutions(visibleSorted(prob.getSolutions(), Solution::isVisible, Solution::getSortOrder, Solution::getContent))
+                                .impacts(visibleSorted(prob.getImpacts(), Impact::isVisible, Impact::getSortOrder, Impact::getContent))
+                                .build()))
+                .build();
+    }
+
+    // 공통 로직: 노출 항목만 골라 정렬한 뒤 DTO로 변환 (원본 엔티티 리스트는 건드리지 않음)
+    private static <T, R> List<R> visibleSorted(List<T> items,
+                                                Predicate<T> visible,
+                                                Function<T, Integer> sortOrder,
+                                                Function<T, R> mapper) {
+        if (items == null) return List.of();
+        return items.stream()
+                .filter(visible)
+                .sorted(Comparator.comparing(sortOrder, Comparator.nullsLast(Comparator.<Integer>naturalOrder())))
+                .map(mapper)
+                .toList();
+    }
+
+    // 스냅샷 버전: 같은 이력서라도 저장할 때마다 lastModifiedDate가 바뀌므로 둘을 묶어 식별
+    static String versionOf(ProfileMaster master) {
+        LocalDateTime modified = master.getLastModifiedDate();
+        long millis = modified != null ? modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return master.getId() + "-" + millis;
     }
-}
\ No newline at end of file
+}
@@ -1,48 +1,72 @@
 package com.example.profile.service;
 
 import com.example.profile.dto.ChatRequestDto;
-import com.example.profile.dto.ProfileWrapper;
+import com.example.profile.dto.ChatStreamEvent;
+import com.example.profile.dto.GeminiStreamChunk;
+import com.example.profile.dto.ProfileResponseDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
 public class GeminiChatService {
 
+    private static final byte[] BODY_PREFIX = "{\"system_instruction\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY_CONTENTS = ",\"contents\":".getBytes(StandardCharsets.UTF_8);
+
     private final FrontProfileService frontProfileService;
     private final ObjectMapper objectMapper;
-    private final WebClient webClient = WebClient.builder().baseUrl("https://generativelanguage.googleapis.com").build();
+    private final ChatPromptCache chatPromptCache;
+    private final ChatAnswerCache chatAnswerCache;
+    private final ChatBulkhead chatBulkhead;
 
     @Value("${api.gemini.api-key}")
     private String geminiApiKey;
 
-    public Flux<String> streamChatResponse(ChatRequestDto requestDto) {
+    // 로컬 스텁 서버로 측정할 때만 바꿈
+    @Value("${api.gemini.base-url:https://generativelanguage.googleapis.com}")
+    private String geminiBaseUrl;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void initWebClient() {
+        webClient = WebClient.builder().baseUrl(geminiBaseUrl).build();
+    }
+
+    public Flux<ChatStreamEvent> streamChatResponse(ChatRequestDto requestDto, String clientKey) {
         try {
             // 1. 포트폴리오 데이터 확보.
-            ProfileWrapper profile = frontProfileService.getPublicProfile();
-            String portfolioJson = objectMapper.writeValueAsString(profile);
-
-            // 2. 시스템 프롬프트 조립.
-            String systemPrompt = "너는 백엔드 개발자 '이경석'의 포트폴리오 안내 챗봇이야. " +
-                    "반드시 제공된 포트폴리오 JSON 데이터만을 기반으로 답변해. " +
-                    "포트폴리오 내용과 관련 없는 질문은 단호하게 거절해. 모르는 내용은 지어내지 마.\n" +
-                    "데이터: " + portfolioJson;
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("system_instruction", Map.of(
-                    "parts", List.of(Map.of("text", systemPrompt))
-            ));
+            ProfileResponseDTO profile = frontProfileService.getPublicProfile();
 
-            // 3. 대화 맥락(History) 조립.
+            // 2. 같은 버전에서 이미 답한 첫 질문이면 저장된 청크를 그대로 재생
+            String answerKey = chatAnswerCache.keyFor(requestDto, profile.getVersion());
+            if (answerKey != null) {
+                ChatAnswerCache.CachedAnswer cached = chatAnswerCache.find(answerKey);
+                if (cached != null) {
+                    return Flux.fromIterable(cached.getEvents());
+                }
+            }
+
+            // 3. 시스템 프롬프트 (고정 부분은 버전별로 직렬화까지 끝난 바이트를 재사용, 질문 관련 발췌만 새로 붙임)
+            byte[] systemInstruction = chatPromptCache.systemInstruction(profile, retrievalQuery(requestDto));
+
+            // 4. 대화 맥락(History) 조립.
             List<Map<String, Object>> contents = new ArrayList<>();
 
             // 프론트에서 넘겨준 과거 대화 데이터 적재.
@@ -55,25 +79,94 @@ public class GeminiChatService {
                 }
             }
 
-            // 4. 새로 입력한 질문 추가.
+            // 5. 새로 입력한 질문 추가.
             contents.add(Map.of(
                     "role", "user",
                     "parts", List.of(Map.of("text", requestDto.getNewMessage()))
             ));
 
-            requestBody.put("contents", contents);
+            byte[] requestBody = buildRequestBody(systemInstruction, contents);
 
-            // 5. API 스트리밍 요청.
-            return webClient.post()
+            // 6. API 스트리밍 요청. (SSE data를 Jackson 비동기 파서로 바로 DTO로 디코딩)
+            Flux<GeminiStreamChunk> upstream = webClient.post()
 //                    .uri("/v1beta/models/gemini-2.5-flash:streamGenerateContent?alt=sse")
                     .uri("/v1beta/models/gemini-3.1-flash-lite-preview:streamGenerateContent?alt=sse")
                     .header("x-goog-api-key", geminiApiKey) // URL 대신 헤더에 안전하게 API 키 삽입
+                    .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(requestBody)
                     .retrieve()
-                    .bodyToFlux(String.class);
+                    .bodyToFlux(GeminiStreamChunk.class);
+            Flux<ChatStreamEvent> events = toEvents(upstream);
+            if (answerKey != null) {
+                events = recordAnswer(events, answerKey);
+            }
+            // 업스트림 동시 호출 수 제한 (캐시 적중 답변은 위에서 바로 반환되므로 대기열을 거치지 않음)
+            return chatBulkhead.run(clientKey, events);
 
         } catch (Exception e) {
-            return Flux.just("시스템 에러: 포트폴리오 데이터를 처리하지 못했습니다.");
+            return Flux.just(ChatStreamEvent.delta("시스템 에러: 포트폴리오 데이터를 처리하지 못했습니다."));
         }
     }
+
+    // 텍스트가 있는 청크는 delta로, 스트림이 끝나면 마지막 종료 사유/토큰 사용량을 done 하나로 내보냄
+    private static Flux<ChatStreamEvent> toEvents(Flux<GeminiStreamChunk> upstream) {
+        return Flux.defer(() -> {
+            AtomicReference<String> finishReason = new AtomicReference<>();
+            AtomicReference<GeminiStreamChunk.UsageMetadata> usage = new AtomicReference<>();
+            Flux<ChatStreamEvent> deltas = upstream.handle((chunk, sink) -> {
+                if (chunk.finishReason() != null) {
+                    finishReason.set(chunk.finishReason());
+                }
+                if (chunk.getUsageMetadata() != null) {
+                    usage.set(chunk.getUsageMetadata()); // 누적값이므로 마지막 것만 의미 있음
+                }
+                String text = chunk.text();
+                if (!text.isEmpty()) {
+                    sink.next(ChatStreamEvent.delta(text));
+                }
+            });
+            return deltas.concatWith(Mono.fromSupplier(() -> {
+                GeminiStreamChunk.UsageMetadata u = usage.get();
+                return ChatStreamEvent.done(finishReason.get(),
+                        u != null ? u.getPromptTokenCount() : null,
+                        u != null ? u.getCandidatesTokenCount() : null);
+            }));
+        });
+    }
+
+    // "그건 어떻게 해결했어?" 같은 후속 질문도 앞 질문의 주제로 검색되도록 직전 사용자 질문을 함께 사용
+    private static String retrievalQuery(ChatRequestDto requestDto) {
+        List<ChatRequestDto.ChatMessage> history = requestDto.getHistory();
+        if (history != null) {
+            for (int i = history.size() - 1; i >= 0; i--) {
+                if ("user".equals(history.get(i).getRole())) {
+                    return history.get(i).getText() + "\n" + requestDto.getNewMessage();
+                }
+            }
+        }
+        return requestDto.getNewMessage();
+    }
+
+    // 끝까지 정상 수신된 응답만 이벤트 순서 그대로 저장 (중간 에러/취소 시 저장하지 않음)
+    private Flux<ChatStreamEvent> recordAnswer(Flux<ChatStreamEvent> upstream, String answerKey) {
+        return Flux.defer(() -> {
+            long start = System.currentTimeMillis();
+            List<ChatStreamEvent> events = new ArrayList<>();
+            return upstream
+                    .doOnNext(events::add)
+                    .doOnComplete(() -> chatAnswerCache.store(answerKey, events, System.currentTimeMillis() - start));
+        });
+    }
+
+    // {"system_instruction":<캐시된 바이트>,"contents":[...]} (대화 부분만 매번 직렬화)
+    private byte[] buildRequestBody(byte[] systemInstruction, List<Map<String, Object>> contents) throws IOException {
+        byte[] contentsJson = objectMapper.writeValueAsBytes(contents);
+        ByteArrayOutputStream body = new ByteArrayOutputStream(systemInstruction.length + contentsJson.length + 40);
+        body.write(BODY_PREFIX);
+        body.write(systemInstruction);
+        body.write(BODY_CONTENTS);
+        body.write(contentsJson);
+        body.write('}');
+        return body.toByteArray();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.example.profile.service;
+
+import com.example.profile.config.CompressedContent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 렌더링이 끝난 메인 페이지(index.html)를 프로필 버전별로 메모리에 보관
+// 같은 버전이면 Thymeleaf를 다시 돌리지 않고 저장된 바이트를 그대로 내려줌
+// gzip/brotli 압축본도 렌더링 시 한 번만 만들어 함께 보관
+@Slf4j
+@Component
+public class IndexPageCache {
+
+    // 공개 페이지는 항상 활성 이력서 하나뿐이므로 최신 버전 한 장만 보관
+    // (변경 시 따로 비우지 않음: 커밋 후 스냅샷이 교체되면 버전 키가 달라져 자연히 다시 렌더링됨)
+    private final AtomicReference<RenderedPage> current = new AtomicReference<>();
+
+    public RenderedPage get(String versionKey, Long lastModified, Supplier<String> renderer) {
+        RenderedPage page = current.get();
+        if (page != null && page.getVersionKey().equals(versionKey)) {
+            return page;
+        }
+        RenderedPage rendered = RenderedPage.of(versionKey, lastModified, renderer.get());
+        current.set(rendered);
+        CompressedContent content = rendered.getContent();
+        log.info("Index page rendered and cached (version={}, identity={} bytes, gzip={}, br={})", versionKey,
+                content.getIdentity().length, lengthOf(content.getGzip()), lengthOf(content.getBrotli()));
+        return rendered;
+    }
+
+    private static String lengthOf(byte[] bytes) {
+        return bytes != null ? String.valueOf(bytes.length) : "-";
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class RenderedPage {
+        private final String versionKey;
+        private final CompressedContent content; // 원본 + gzip/br 압축본
+        private final String etag;       // 내용 기반 강한 ETag (노드가 달라도 같은 값, 압축본은 접미사로 구분)
+        private final Long lastModified; // 처음 렌더링할 때 받은 시각 (스냅샷 조립 시각, 없으면 null)
+
+        static RenderedPage of(String versionKey, Long lastModified, String html) {
+            byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+            return new RenderedPage(versionKey, CompressedContent.of(bytes), sha256(bytes), lastModified);
+        }
+
+        private static String sha256(byte[] bytes) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+                return HexFormat.of().formatHex(digest, 0, 16);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.profile.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 관리자 화면에서 이력서가 저장/활성화/삭제되어 공개 포트폴리오가 바뀌었음을 알리는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class PortfolioChangedEvent {
+    private final Long profileId;
+}
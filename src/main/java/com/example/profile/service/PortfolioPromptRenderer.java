@@ -0,0 +1,170 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.*;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 챗봇 컨텍스트용 포트폴리오 텍스트 개요
+// JSON과 달리 키 이름/따옴표/null 필드가 없어 같은 정보를 훨씬 적은 토큰으로 전달
+// 섹션 순서/노출 여부는 공개 페이지(index.html)와 동일하게 스냅샷의 sections를 따름
+//
+// # 이름 | 직무
+// 연락처: email | phone | github
+// ## ABOUT
+// 소개 문단
+// - 핵심 역할
+// ## PROJECTS (* 문제 / > 해결 / + 성과)
+// ### 회사명 [WORK]
+// #### 프로젝트명
+// 기간: ... / 요약: ... / 기술: a, b
+// * 문제
+//   > 해결
+//   + 성과
+//
+// renderSummary는 검색 기반 프롬프트용 뼈대 (핵심 역할, 프로젝트 요약/본문/문제는 빼고 기간/기술만 남김)
+@Component
+public class PortfolioPromptRenderer {
+
+    public String render(ProfileResponseDTO p) {
+        return render(p, true);
+    }
+
+    public String renderSummary(ProfileResponseDTO p) {
+        return render(p, false);
+    }
+
+    private String render(ProfileResponseDTO p, boolean detailed) {
+        StringBuilder sb = new StringBuilder(4096);
+        sb.append("# ").append(join(" | ", p.getFullName(), p.getJobTitle())).append('\n');
+        String contact = join(" | ", p.getEmail(), p.getPhone(), p.getGithub());
+        if (!contact.isEmpty()) {
+            sb.append("연락처: ").append(contact).append('\n');
+        }
+
+        for (SectionDTO section : p.getSections()) {
+            switch (section.getSectionType()) {
+                case ABOUT -> renderAbout(sb, p, detailed);
+                case SKILLS -> renderSkills(sb, p.getSkillCategories());
+                case PROJECTS -> renderProjects(sb, p.getProjectGroups(), detailed);
+                case EDUCATION -> renderEducations(sb, p.getEducations());
+                case CERTIFICATION -> renderCertifications(sb, p.getCertifications());
+            }
+        }
+        return sb.toString();
+    }
+
+    private void renderAbout(StringBuilder sb, ProfileResponseDTO p, boolean detailed) {
+        sb.append("## ABOUT\n");
+        if (hasText(p.getAboutParagraph())) {
+            sb.append(p.getAboutParagraph().strip()).append('\n');
+        }
+        if (!detailed) return;
+        for (KeyRoleDTO role : p.getKeyRoles()) {
+            line(sb, "- ", role.getRoleContent());
+        }
+    }
+
+    private void renderSkills(StringBuilder sb, List<SkillCategoryDTO> categories) {
+        if (categories.isEmpty()) return;
+        sb.append("## SKILLS\n");
+        for (SkillCategoryDTO category : categories) {
+            sb.append("- ").append(category.getName()).append(": ").append(join(", ", category.getSkills())).append('\n');
+        }
+    }
+
+    private void renderProjects(StringBuilder sb, List<ProjectGroupDTO> groups, boolean detailed) {
+        if (groups.isEmpty()) return;
+        // 범례를 한 번만 적고 항목마다 라벨을 반복하지 않음
+        sb.append(detailed ? "## PROJECTS (* 문제 / > 해결 / + 성과)\n" : "## PROJECTS\n");
+        for (ProjectGroupDTO group : groups) {
+            sb.append("### ").append(group.getGroupName());
+            if (hasText(group.getGroupType())) {
+                sb.append(" [").append(group.getGroupType()).append(']');
+            }
+            sb.append('\n');
+            for (ProjectDTO project : group.getProjects()) {
+                sb.append("#### ").append(project.getTitle()).append('\n');
+                for (ProjectItemDTO item : project.getProjectItems()) {
+                    if (detailed) {
+                        renderItem(sb, item);
+                    } else {
+                        renderItemSummary(sb, item);
+                    }
+                }
+            }
+        }
+    }
+
+    private void renderItem(StringBuilder sb, ProjectItemDTO item) {
+        String type = item.getItemType() != null ? item.getItemType() : "";
+        switch (type) {
+            case "DURATION" -> line(sb, "기간: ", item.getContent());
+            case "SUMMARY" -> line(sb, "요약: ", item.getContent());
+            case "TECH_STACK_GROUP" -> {
+                if (!item.getTechStacks().isEmpty()) {
+                    sb.append("기술: ").append(join(", ", item.getTechStacks())).append('\n');
+                }
+            }
+            case "CONTENT_GROUP" -> {
+                line(sb, "", item.getContent());
+                for (ProblemDTO problem : item.getProblems()) {
+                    line(sb, "* ", problem.getTitle());
+                    problem.getSolutions().forEach(s -> line(sb, "  > ", s));
+                    problem.getImpacts().forEach(i -> line(sb, "  + ", i));
+                }
+            }
+            default -> line(sb, "", item.getContent());
+        }
+    }
+
+    private void renderItemSummary(StringBuilder sb, ProjectItemDTO item) {
+        if ("DURATION".equals(item.getItemType()) || "TECH_STACK_GROUP".equals(item.getItemType())) {
+            renderItem(sb, item);
+        }
+    }
+
+    private void renderEducations(StringBuilder sb, List<EducationDTO> educations) {
+        if (educations.isEmpty()) return;
+        sb.append("## EDUCATION\n");
+        for (EducationDTO e : educations) {
+            line(sb, "- ", join(" | ", e.getInstitution(), e.getMajor(), e.getPeriod(),
+                    hasText(e.getGpa()) ? "GPA " + e.getGpa() : null, e.getAdditionalInfo()));
+        }
+    }
+
+    private void renderCertifications(StringBuilder sb, List<CertificationDTO> certifications) {
+        if (certifications.isEmpty()) return;
+        sb.append("## CERTIFICATION\n");
+        for (CertificationDTO c : certifications) {
+            line(sb, "- ", join(" | ", c.getName(), c.getIssueDate(), c.getAdditionalInfo()));
+        }
+    }
+
+    // =================================================================================
+    // 유틸리티 (빈 값은 줄/구분자 자체를 생략)
+    // =================================================================================
+
+    private static void line(StringBuilder sb, String prefix, String text) {
+        if (hasText(text)) {
+            sb.append(prefix).append(text.strip()).append('\n');
+        }
+    }
+
+    private static String join(String delimiter, String... values) {
+        return join(delimiter, Arrays.asList(values)); // null 허용
+    }
+
+    private static String join(String delimiter, List<String> values) {
+        return values.stream()
+                .filter(PortfolioPromptRenderer::hasText)
+                .map(String::strip)
+                .collect(Collectors.joining(delimiter));
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ProfileResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 질문과 관련된 포트폴리오 passage만 골라 프롬프트에 붙일 텍스트로 만들어 줌
+// 색인은 포트폴리오 버전당 한 번만 만들고, 버전이 바뀌면 첫 질문 때 다시 만듦 (ChatPromptCache와 같은 방식)
+@Slf4j
+@Component
+public class PortfolioRetriever {
+
+    static final String HEADER = "관련 내용 (질문과 관련도가 높은 항목만 발췌):\n";
+
+    @Value("${app.chat.retrieval.top-k:8}")
+    private int topK = 8;
+
+    // 발췌 부분 최대 글자 수 (넘치는 passage는 건너뛰고 더 짧은 다음 후보를 시도)
+    @Value("${app.chat.retrieval.max-chars:3000}")
+    private int maxChars = 3000;
+
+    private final AtomicReference<PortfolioSearchIndex> current = new AtomicReference<>();
+
+    // 관련 passage가 하나도 없으면 null (요약 개요만으로 답변)
+    public String relevantPassages(ProfileResponseDTO profile, String query) {
+        List<PortfolioSearchIndex.Passage> hits = indexFor(profile).search(query, topK);
+        if (hits.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder(HEADER);
+        int added = 0;
+        for (PortfolioSearchIndex.Passage hit : hits) {
+            if (sb.length() + hit.getText().length() + 1 > maxChars) continue;
+            sb.append(hit.getText()).append('\n');
+            added++;
+        }
+        return added == 0 ? null : sb.toString();
+    }
+
+    private PortfolioSearchIndex indexFor(ProfileResponseDTO profile) {
+        PortfolioSearchIndex index = current.get();
+        if (index != null && index.getVersion().equals(profile.getVersion())) {
+            return index;
+        }
+        long start = System.nanoTime();
+        index = PortfolioSearchIndex.build(profile);
+        current.set(index);
+        log.info("Chat retrieval index built (version={}, passages={}, {}ms)",
+                profile.getVersion(), index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+}
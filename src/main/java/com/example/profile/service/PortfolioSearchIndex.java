@@ -0,0 +1,167 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.*;
+
+// 공개 포트폴리오 스냅샷 한 버전에 대한 BM25 역색인 (생성 후 변경 없음)
+// 한글은 어절 대신 음절 bigram으로, 영문/숫자는 단어 단위로 색인해 조사/띄어쓰기 차이에도 매칭되도록 함
+// 각 passage는 질문에 답하는 데 필요한 맥락(회사 > 프로젝트)을 앞에 붙인 프롬프트용 텍스트 그대로 보관
+class PortfolioSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    @Getter
+    private final String version;
+    private final List<Passage> passages = new ArrayList<>();
+    private final List<Map<String, Integer>> termFrequencies = new ArrayList<>();
+    private final List<Integer> lengths = new ArrayList<>();
+    private final Map<String, Integer> documentFrequencies = new HashMap<>();
+    private double averageLength;
+
+    private PortfolioSearchIndex(String version) {
+        this.version = version;
+    }
+
+    static PortfolioSearchIndex build(ProfileResponseDTO p) {
+        PortfolioSearchIndex index = new PortfolioSearchIndex(p.getVersion());
+
+        for (KeyRoleDTO role : p.getKeyRoles()) {
+            index.add("[핵심 역할] ", role.getRoleContent());
+        }
+        for (SkillCategoryDTO category : p.getSkillCategories()) {
+            index.add("[기술 스택] " + category.getName() + ": ", String.join(", ", category.getSkills()));
+        }
+        for (ProjectGroupDTO group : p.getProjectGroups()) {
+            for (ProjectDTO project : group.getProjects()) {
+                String context = "[" + group.getGroupName() + " > " + project.getTitle() + "] ";
+                for (ProjectItemDTO item : project.getProjectItems()) {
+                    index.addItem(context, item);
+                }
+            }
+        }
+
+        int totalLength = index.lengths.stream().mapToInt(Integer::intValue).sum();
+        index.averageLength = index.passages.isEmpty() ? 0 : (double) totalLength / index.passages.size();
+        return index;
+    }
+
+    private void addItem(String context, ProjectItemDTO item) {
+        String type = item.getItemType() != null ? item.getItemType() : "";
+        switch (type) {
+            case "DURATION" -> { } // 기간은 요약 개요에 항상 포함됨
+            case "SUMMARY" -> add(context + "요약: ", item.getContent());
+            case "TECH_STACK_GROUP" -> {
+                if (!item.getTechStacks().isEmpty()) {
+                    add(context + "기술 스택: ", String.join(", ", item.getTechStacks()));
+                }
+            }
+            case "CONTENT_GROUP" -> {
+                add(context, item.getContent());
+                // 문제 하나(해결/성과 포함)를 한 passage로 묶어 답변에 필요한 인과 관계가 끊기지 않도록 함
+                for (ProblemDTO problem : item.getProblems()) {
+                    StringBuilder sb = new StringBuilder(problem.getTitle() != null ? problem.getTitle().strip() : "");
+                    problem.getSolutions().forEach(s -> sb.append("\n  해결: ").append(s.strip()));
+                    problem.getImpacts().forEach(i -> sb.append("\n  성과: ").append(i.strip()));
+                    add(context + "문제: ", sb.toString());
+                }
+            }
+            default -> add(context, item.getContent());
+        }
+    }
+
+    private void add(String label, String content) {
+        if (content == null || content.isBlank()) return;
+        String text = label + content.strip();
+        List<String> terms = tokenize(text);
+        if (terms.isEmpty()) return;
+        Map<String, Integer> tf = new HashMap<>();
+        terms.forEach(term -> tf.merge(term, 1, Integer::sum));
+        passages.add(new Passage(passages.size(), text));
+        termFrequencies.add(tf);
+        lengths.add(terms.size());
+        tf.keySet().forEach(term -> documentFrequencies.merge(term, 1, Integer::sum));
+    }
+
+    int size() {
+        return passages.size();
+    }
+
+    // 점수가 0보다 큰 passage를 점수 내림차순으로 최대 limit개 (동점이면 원래 순서)
+    List<Passage> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || passages.isEmpty()) {
+            return List.of();
+        }
+
+        int n = passages.size();
+        double[] scores = new double[n];
+        for (String term : queryTerms) {
+            Integer df = documentFrequencies.get(term);
+            if (df == null) continue;
+            double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            for (int i = 0; i < n; i++) {
+                Integer f = termFrequencies.get(i).get(term);
+                if (f == null) continue;
+                double length = lengths.get(i);
+                scores[i] += idf * (f * (K1 + 1)) / (f + K1 * (1 - B + B * length / averageLength));
+            }
+        }
+
+        List<Passage> hits = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (scores[i] > 0) hits.add(passages.get(i));
+        }
+        hits.sort(Comparator.comparingDouble((Passage h) -> -scores[h.getOrder()]).thenComparingInt(Passage::getOrder));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    // 한글 연속 구간은 음절 bigram(한 글자면 그대로), 영문/숫자 연속 구간은 단어 하나
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) return terms;
+        String s = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < s.length() && isHangul(s.charAt(i))) i++;
+                if (i - start == 1) {
+                    terms.add(s.substring(start, i));
+                } else {
+                    for (int j = start; j < i - 1; j++) {
+                        terms.add(s.substring(j, j + 2));
+                    }
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < s.length() && Character.isLetterOrDigit(s.charAt(i)) && !isHangul(s.charAt(i))) i++;
+                // 한 글자 언어 이름 뒤의 기호는 이름의 일부 (c#, f#, c++ 가 "c"와 섞이지 않도록)
+                if (i - start == 1 && Character.isLetter(c)) {
+                    while (i < s.length() && (s.charAt(i) == '#' || s.charAt(i) == '+')) i++;
+                }
+                terms.add(s.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return terms;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class Passage {
+        private final int order;
+        private final String text;
+    }
+}
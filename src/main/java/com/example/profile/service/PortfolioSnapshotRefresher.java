@@ -0,0 +1,81 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ProfileResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 관리자 트랜잭션이 커밋된 "후에" 공개 스냅샷을 백그라운드에서 다시 만들어 교체
+// - 커밋 전 데이터를 캐시에 다시 올리는 경쟁 상태가 없음
+// - 기존 엔트리는 새 스냅샷이 준비될 때까지 그대로 제공되므로 방문자가 콜드 캐시를 만나지 않음
+// - 재생성은 전용 스레드 하나에서 커밋 순서대로 실행하고, 그 사이 더 새 변경이 들어왔으면 결과를 버림
+//   (먼저 시작한 재생성이 늦게 끝나 새 스냅샷을 덮어쓰지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioSnapshotRefresher implements DisposableBean {
+
+    private final FrontProfileService frontProfileService;
+    private final CacheManager cacheManager;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("portfolio-snapshot-refresher").daemon().factory());
+    // 커밋된 변경마다 하나씩 증가 (가장 최근 이벤트의 세대만 캐시에 반영)
+    private final AtomicLong generation = new AtomicLong();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        long scheduled = generation.incrementAndGet();
+        executor.execute(() -> rebuild(event, scheduled));
+    }
+
+    private void rebuild(PortfolioChangedEvent event, long scheduled) {
+        if (scheduled != generation.get()) {
+            // 뒤에 대기 중인 재생성이 최신 데이터를 읽으므로 건너뜀
+            log.debug("Portfolio snapshot rebuild superseded before start (profileId={})", event.getProfileId());
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            ProfileResponseDTO snapshot = frontProfileService.rebuildPublicProfile();
+            if (scheduled != generation.get()) {
+                log.debug("Portfolio snapshot rebuild superseded, dropping version {} (profileId={})",
+                        snapshot.getVersion(), event.getProfileId());
+                return;
+            }
+            Cache cache = cacheManager.getCache("portfolio");
+            if (cache != null) {
+                cache.put("activeProfile", snapshot);
+            }
+            log.info("Portfolio snapshot rebuilt after commit ({}, profileId={}, version={}, {} ms)",
+                    event instanceof ProfileActivatedEvent ? "activated" : "changed",
+                    event.getProfileId(), snapshot.getVersion(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            // 재생성 실패 시 오래된 스냅샷이 남지 않도록 비워서 다음 요청이 새로 읽게 함
+            log.error("Portfolio snapshot rebuild failed, evicting (profileId={})", event.getProfileId(), e);
+            Cache cache = cacheManager.getCache("portfolio");
+            if (cache != null) {
+                cache.evict("activeProfile");
+            }
+        }
+    }
+
+    // 종료 시 대기 중인 재생성까지 마무리
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
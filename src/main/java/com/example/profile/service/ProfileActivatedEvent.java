@@ -0,0 +1,10 @@
+package com.example.profile.service;
+
+// 공개 페이지에 노출할 이력서가 바뀌었음을 알리는 이벤트
+// PortfolioChangedEvent의 하위 타입이므로 커밋 후 스냅샷 재생성(PortfolioSnapshotRefresher)이 그대로 동작함
+public class ProfileActivatedEvent extends PortfolioChangedEvent {
+
+    public ProfileActivatedEvent(Long profileId) {
+        super(profileId);
+    }
+}
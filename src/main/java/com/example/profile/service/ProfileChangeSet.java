@@ -0,0 +1,45 @@
+package com.example.profile.service;
+
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+// 이력서 저장 시 실제로 바뀐 엔티티 수 (신규/수정/삭제, 하위 엔티티 포함)
+@Getter
+public class ProfileChangeSet {
+
+    private int inserted;
+    private int updated;
+    private int deleted;
+
+    void recordInsert(int count) {
+        inserted += count;
+    }
+
+    void recordUpdate() {
+        updated++;
+    }
+
+    void recordDelete(int count) {
+        deleted += count;
+    }
+
+    public boolean isEmpty() {
+        return inserted == 0 && updated == 0 && deleted == 0;
+    }
+
+    // 값이 실제로 다를 때만 setter 호출 (같은 값을 다시 넣어 불필요한 UPDATE가 나가지 않도록)
+    static <V> boolean assign(V current, V next, Consumer<V> setter) {
+        if (Objects.equals(current, next)) {
+            return false;
+        }
+        setter.accept(next);
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "inserted=" + inserted + ", updated=" + updated + ", deleted=" + deleted;
+    }
+}
@@ -56,7 +56,11 @@ async function sendMessage() {
         const decoder = new TextDecoder("utf-8");
 
         let aiFullResponse = "";
+        let statusMessage = "";
+        let rejected = false;
         let buffer = "";
+        let eventName = "message";
+        let dataLines = [];
 
         while (true) {
             const { done, value } = await reader.read();
@@ -65,44 +69,51 @@ async function sendMessage() {
             // 1. 새로 도착한 바이트를 텍스트로 변환 후 버퍼에 계속 이어 붙임.
             buffer += decoder.decode(value, { stream: true });
 
-            // 2. 줄바꿈 기호(\n)를 기준으로 버퍼의 데이터 분힐.
+            // 2. 줄바꿈 기호(\n)를 기준으로 버퍼의 데이터 분할.
             const lines = buffer.split('\n');
 
             // 3. 배열의 맨 마지막 요소는 아직 줄바꿈이 끝나지 않은 '불완전한 문장'이므로 다시 버퍼에 넣음.
             buffer = lines.pop();
 
-            // 4. 완벽하게 줄바꿈이 끝난 온전한 문장만 파싱.
-            for (const line of lines) {
-                const trimmedLine = line.trim();
-                if (trimmedLine.startsWith('data:')) {
-                    // "data:" 글자를 떼어내고 순수 JSON 문자열만 추출
-                    const jsonString = trimmedLine.substring(5).trim();
-
-                    if (jsonString) {
-                        try {
-                            // 문자열을 자바스크립트 객체(JSON)로 변환.
-                            const parsedData = JSON.parse(jsonString);
-
-                            // JSON 구조 안에서 실제 텍스트 데이터만 추출.
-                            if (parsedData.candidates && parsedData.candidates[0].content && parsedData.candidates[0].content.parts) {
-                                const actualText = parsedData.candidates[0].content.parts[0].text;
-                                aiFullResponse += actualText;
-                            }
-                        } catch (error) {
-                            // 버퍼 조립 전 발생하는 사소한 파싱 에러는 무시하고 스트림을 계속 유지.
-                            console.error("JSON 파싱 에러 (조립 대기 중):", error);
+            // 4. SSE 이벤트 조립 (event:/data: 줄을 모았다가 빈 줄에서 한 이벤트로 처리).
+            //    서버가 이미 텍스트만 골라 보내므로 delta는 {"text":"..."}, done은 종료 사유/토큰 사용량뿐.
+            for (const rawLine of lines) {
+                const line = rawLine.replace(/\r$/, '');
+                if (line.startsWith('event:')) {
+                    eventName = line.substring(6).trim();
+                } else if (line.startsWith('data:')) {
+                    dataLines.push(line.substring(5).trim());
+                } else if (line === '' && dataLines.length > 0) {
+                    const payload = JSON.parse(dataLines.join('\n'));
+                    if (eventName === 'delta') {
+                        aiFullResponse += payload.text;
+                    } else if (eventName === 'status') {
+                        // 동시 호출 한도 초과 시 대기 순번 / 거절 안내
+                        if (payload.status === 'queued') {
+                            statusMessage = `질문이 많아 잠시 대기 중입니다. (대기 ${payload.position}번째)`;
+                        } else if (payload.status === 'rejected') {
+                            rejected = true;
+                            statusMessage = "지금은 질문이 너무 많습니다. 잠시 후 다시 시도해주세요.";
                         }
+                    } else if (eventName === 'done') {
+                        console.debug("챗봇 응답 완료:", payload);
                     }
+                    eventName = "message";
+                    dataLines = [];
                 }
             }
 
-            // 5. 알맹이만 모인 텍스트를 화면에 렌더링
-            aiMessageBoxText.innerHTML = aiFullResponse.replace(/\n/g, '<br>');
+            // 5. 알맹이만 모인 텍스트를 화면에 렌더링 (답변이 시작되기 전까지는 대기 안내)
+            const rendered = aiFullResponse || statusMessage;
+            aiMessageBoxText.innerHTML = rendered.replace(/\n/g, '<br>');
 
             // 스크롤을 항상 맨 아래로 유지
             scrollToBottom();
         }
 
+        // 거절된 질문은 대화 기록에 남기지 않음
+        if (rejected) return;
+
         // 통신이 성공적으로 끝나면, 이번 대화 턴(Turn)을 기억 배열에 저장
         chatHistory.push({ role: "user", text: userMessage });
         chatHistory.push({ role: "model", text: aiFullResponse });
@@ -52,7 +52,13 @@ function loadContactInfo(btnElement) {
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify({ id: profileId })
     })
-        .then(response => {
+        .then(async response => {
+            // 429: 요청 제한 초과 (서버 메시지를 그대로 안내)
+            if (response.status === 429) {
+                const error = new Error(await response.text());
+                error.rateLimited = true;
+                throw error;
+            }
             if (!response.ok) throw new Error('Network response was not ok');
             return response.json();
         })
@@ -118,7 +124,7 @@ function loadContactInfo(btnElement) {
             console.error('Error:', error);
             btnElement.innerHTML = originalText;
             btnElement.disabled = false;
-            alert('정보를 불러오는데 실패했습니다.');
+            alert(error.rateLimited ? error.message : '정보를 불러오는데 실패했습니다.');
         });
 }
 
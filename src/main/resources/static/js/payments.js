@@ -13,6 +13,12 @@ document.getElementById("payment-button").addEventListener("click", async functi
             }
         });
 
+        // 429: 요청 제한 초과 (서버 메시지에 재시도 가능 시점 포함)
+        if (response.status === 429) {
+            alert(await response.text());
+            return;
+        }
+
         if (!response.ok) {
             throw new Error("주문 생성에 실패했습니다.");
         }
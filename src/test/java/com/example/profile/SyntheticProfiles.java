@@ -0,0 +1,156 @@
+package com.example.profile;
+
+import com.example.profile.model.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 테스트용 대용량 이력서 그래프 생성기 (부모-자식 관계까지 모두 연결된 상태)
+public final class SyntheticProfiles {
+
+    private SyntheticProfiles() {
+    }
+
+    public static ProfileMaster large(int companies, int projectsPerCompany, int problemsPerProject) {
+        ProfileMaster master = new ProfileMaster();
+        master.setTitle("Synthetic Profile");
+        master.setActive(true);
+        master.setLastModifiedDate(LocalDateTime.of(2026, 1, 1, 9, 0));
+        master.setSections(new ArrayList<>());
+        master.setKeyRoles(new ArrayList<>());
+        master.setSkillCategories(new ArrayList<>());
+        master.setCompanies(new ArrayList<>());
+        master.setEducations(new ArrayList<>());
+        master.setCertifications(new ArrayList<>());
+
+        ProfileConfig config = new ProfileConfig();
+        config.setFullName("홍길동");
+        config.setCompanyRoleLabel("Backend Engineer");
+        config.setEmail("hong@example.com");
+        config.setPhone("010-0000-0000");
+        config.setGithub("github.com/hong");
+        config.setAboutParagraph("대규모 트래픽을 다루는 백엔드 개발자입니다. ".repeat(10));
+        config.setProfileMaster(master);
+        master.setConfig(config);
+
+        SectionType[] types = SectionType.values();
+        for (int i = 0; i < types.length; i++) {
+            ProfileSection section = new ProfileSection();
+            section.setSectionType(types[i]);
+            section.setSectionName(types[i].name());
+            section.setSortOrder(i);
+            section.setProfileMaster(master);
+            master.getSections().add(section);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            KeyRole role = new KeyRole();
+            role.setRoleContent("핵심 역할 " + i + ": 결제 시스템 설계 및 운영");
+            role.setSortOrder(i);
+            role.setProfileMaster(master);
+            master.getKeyRoles().add(role);
+        }
+
+        for (int c = 0; c < 4; c++) {
+            SkillCategory category = new SkillCategory();
+            category.setName("Category " + c);
+            category.setSortOrder(c);
+            category.setProfileMaster(master);
+            for (int s = 0; s < 8; s++) {
+                Skill skill = new Skill();
+                skill.setName("Skill-" + c + "-" + s);
+                skill.setSortOrder(s);
+                skill.setCategory(category);
+                category.getSkills().add(skill);
+            }
+            master.getSkillCategories().add(category);
+        }
+
+        for (int c = 0; c < companies; c++) {
+            Company company = new Company();
+            company.setName("Company " + c);
+            company.setSortOrder(c);
+            company.setProfileMaster(master);
+            company.setProjects(new ArrayList<>());
+            for (int p = 0; p < projectsPerCompany; p++) {
+                company.getProjects().add(project(company, p, problemsPerProject));
+            }
+            master.getCompanies().add(company);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            Education education = new Education();
+            education.setInstitution("University " + i);
+            education.setMajor("Computer Science");
+            education.setPeriod("2015.03 - 2021.02");
+            education.setGpa("4.0 / 4.5");
+            education.setSortOrder(i);
+            education.setProfileMaster(master);
+            master.getEducations().add(education);
+
+            Certification certification = new Certification();
+            certification.setName("정보처리기사 " + i);
+            certification.setIssueDate("2021.06");
+            certification.setSortOrder(i);
+            certification.setProfileMaster(master);
+            master.getCertifications().add(certification);
+        }
+        return master;
+    }
+
+    private static ProjectMaster project(Company company, int index, int problems) {
+        ProjectMaster project = new ProjectMaster();
+        project.setTitle(company.getName() + " Project " + index);
+        project.setSortOrder(index);
+        project.setCompany(company);
+
+        List<ProjectMeta> metas = project.getMetaItems();
+        metas.add(meta(project, "DURATION", "2023.01 - 2024.06", 0));
+        metas.add(meta(project, "SUMMARY", "트래픽 급증에 대응하기 위한 캐시 계층 재설계 프로젝트", 1));
+
+        ProjectMeta stack = meta(project, "TECH_STACK_GROUP", null, 2);
+        String[] techs = {"Java", "Spring Boot", "Redis", "PostgreSQL", "Kafka"};
+        for (int i = 0; i < techs.length; i++) {
+            ProjectTechStack tech = new ProjectTechStack();
+            tech.setTechName(techs[i]);
+            tech.setSortOrder(i);
+            tech.setProjectMeta(stack);
+            stack.getTechStacks().add(tech);
+        }
+        metas.add(stack);
+
+        ProjectMeta content = meta(project, "CONTENT_GROUP", null, 3);
+        for (int i = 0; i < problems; i++) {
+            Problem problem = new Problem();
+            problem.setTitle("문제 " + i + ": 피크 시간대 DB 커넥션 고갈");
+            problem.setSortOrder(i);
+            problem.setProjectMeta(content);
+            for (int j = 0; j < 3; j++) {
+                Solution solution = new Solution();
+                solution.setContent("해결 " + j + ": 읽기 경로를 캐시로 분리하고 커넥션 풀 크기를 재조정");
+                solution.setSortOrder(j);
+                solution.setProblem(problem);
+                problem.getSolutions().add(solution);
+
+                Impact impact = new Impact();
+                impact.setContent("성과 " + j + ": p99 응답시간 850ms -> 120ms");
+                impact.setSortOrder(j);
+                impact.setProblem(problem);
+                problem.getImpacts().add(impact);
+            }
+            content.getProblems().add(problem);
+        }
+        metas.add(content);
+        return project;
+    }
+
+    private static ProjectMeta meta(ProjectMaster project, String type, String content, int order) {
+        ProjectMeta meta = new ProjectMeta();
+        meta.setItemType(type);
+        meta.setContent(content);
+        meta.setSortOrder(order);
+        meta.setProjectMaster(project);
+        return meta;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.profile.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 느린 SSE 클라이언트가 많을 때 이벤트 루프 지연 비교
+// 단일 스레드 스케줄러를 Netty 이벤트 루프 대역으로 두고 업스트림 청크를 그 스레드에서 흘려보내며,
+// 같은 스레드에 주기적으로 넣은 probe 작업이 실제로 실행되기까지의 지연을 측정
+// (지연 비교는 실행 환경에 따라 흔들리므로 benchmark 태그, ./gradlew benchmark)
+class ChatSseHandOffLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatSseHandOffLoadTest.class);
+
+    private static final int STREAMS = 16;
+    private static final int CHUNKS_PER_STREAM = 10;
+    private static final long SLOW_WRITE_MILLIS = 10; // 느린 브라우저로의 emitter.send() 한 번
+
+    private Scheduler eventLoop;
+    private Scheduler sseWriter;
+
+    @BeforeEach
+    void setUp() {
+        eventLoop = Schedulers.newSingle("fake-event-loop");
+        sseWriter = ChatStreamConfig.newSseScheduler(STREAMS, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.dispose();
+        sseWriter.dispose();
+    }
+
+    @Test
+    void handedOffWritesRunOffTheEventLoopInOrder() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(STREAMS);
+        Queue<String> writerThreads = new ConcurrentLinkedQueue<>();
+        List<List<Integer>> received = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < STREAMS; i++) {
+            List<Integer> chunks = new CopyOnWriteArrayList<>();
+            received.add(chunks);
+            Flux.range(0, CHUNKS_PER_STREAM)
+                    .publishOn(eventLoop, 1)
+                    .publishOn(sseWriter, ChatStreamConfig.SSE_PREFETCH)
+                    .doFinally(s -> done.countDown())
+                    .subscribe(chunk -> {
+                        writerThreads.add(Thread.currentThread().getName());
+                        chunks.add(chunk);
+                    });
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        List<Integer> expected = IntStream.range(0, CHUNKS_PER_STREAM).boxed().toList();
+        assertThat(received).allSatisfy(chunks -> assertThat(chunks).isEqualTo(expected));
+        assertThat(writerThreads).hasSize(STREAMS * CHUNKS_PER_STREAM)
+                .allSatisfy(name -> assertThat(name).startsWith("chat-sse-writer"));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void eventLoopLatencyStaysFlatWhenWritesAreHandedOff() throws InterruptedException {
+        long direct = maxEventLoopLagMillis(Function.identity());
+        long handedOff = maxEventLoopLagMillis(f -> f.publishOn(sseWriter, ChatStreamConfig.SSE_PREFETCH));
+
+        log.info("[sse hand-off] {} slow streams: max event-loop lag direct={} ms, hand-off={} ms",
+                STREAMS, direct, handedOff);
+
+        assertThat(direct).isGreaterThan(100);
+        assertThat(handedOff * 4).isLessThan(direct);
+    }
+
+    private long maxEventLoopLagMillis(Function<Flux<Integer>, Flux<Integer>> handOff) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(STREAMS);
+        for (int i = 0; i < STREAMS; i++) {
+            Flux<Integer> upstream = Flux.range(0, CHUNKS_PER_STREAM).publishOn(eventLoop, 1);
+            handOff.apply(upstream)
+                    .doFinally(s -> done.countDown())
+                    .subscribe(chunk -> sleep(SLOW_WRITE_MILLIS));
+        }
+
+        AtomicLong maxLag = new AtomicLong();
+        AtomicBoolean probing = new AtomicBoolean(true);
+        Thread probe = new Thread(() -> {
+            while (probing.get()) {
+                long submitted = System.nanoTime();
+                CountDownLatch ran = new CountDownLatch(1);
+                eventLoop.schedule(() -> {
+                    maxLag.accumulateAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submitted), Math::max);
+                    ran.countDown();
+                });
+                try {
+                    ran.await(5, TimeUnit.SECONDS);
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        probe.start();
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        probing.set(false);
+        probe.join(Duration.ofSeconds(5).toMillis());
+        return maxLag.get();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.profile.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedContentTest {
+
+    private static final byte[] TEXT = "body { margin: 0; padding: 0; }\n".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void acceptsHonoursQualityValues() {
+        assertThat(CompressedContent.accepts("gzip, deflate, br;q=0.9", "br")).isTrue();
+        assertThat(CompressedContent.accepts("gzip, deflate, br;q=0.9", "gzip")).isTrue();
+        assertThat(CompressedContent.accepts("GZIP ; q=0.5", "gzip")).isTrue();
+
+        // q=0 과 잘못된 q 값은 거부
+        assertThat(CompressedContent.accepts("br;q=0, gzip", "br")).isFalse();
+        assertThat(CompressedContent.accepts("gzip;q=0.000", "gzip")).isFalse();
+        assertThat(CompressedContent.accepts("br;q=high", "br")).isFalse();
+    }
+
+    @Test
+    void wildcardAppliesOnlyToCodingsNotListed() {
+        assertThat(CompressedContent.accepts("*", "br")).isTrue();
+        assertThat(CompressedContent.accepts("gzip;q=0, *", "gzip")).isFalse();
+        assertThat(CompressedContent.accepts("gzip;q=0, *", "br")).isTrue();
+        assertThat(CompressedContent.accepts("gzip, *;q=0", "br")).isFalse();
+        assertThat(CompressedContent.accepts("gzip, *;q=0", "gzip")).isTrue();
+    }
+
+    @Test
+    void identityOnlyAcceptsNoCompression() {
+        assertThat(CompressedContent.accepts("identity", "gzip")).isFalse();
+        assertThat(CompressedContent.accepts("identity", "br")).isFalse();
+
+        CompressedContent content = CompressedContent.of(TEXT);
+        assertThat(content.select("identity").isEncoded()).isFalse();
+        assertThat(content.select(null).getBody()).isSameAs(TEXT);
+    }
+
+    @Test
+    void selectPrefersBrotliThenGzip() {
+        CompressedContent content = CompressedContent.of(TEXT);
+        assertThat(content.getGzip()).isNotNull();
+
+        assertThat(content.select("gzip").getEncoding()).isEqualTo(CompressedContent.GZIP);
+        assertThat(content.select("br;q=0, gzip").getEncoding()).isEqualTo(CompressedContent.GZIP);
+        // 네이티브 brotli가 없는 환경에서는 gzip으로 내려감
+        String expected = content.getBrotli() != null ? CompressedContent.BROTLI : CompressedContent.GZIP;
+        assertThat(content.select("gzip, deflate, br").getEncoding()).isEqualTo(expected);
+    }
+
+    @Test
+    void contentThatDoesNotShrinkIsServedAsIs() {
+        byte[] tiny = "a".getBytes(StandardCharsets.UTF_8);
+        CompressedContent content = CompressedContent.of(tiny);
+
+        assertThat(content.getGzip()).isNull();
+        assertThat(content.getBrotli()).isNull();
+        assertThat(content.select("gzip, br").getBody()).isSameAs(tiny);
+    }
+}
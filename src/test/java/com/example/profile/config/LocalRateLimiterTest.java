@@ -0,0 +1,147 @@
+package com.example.profile.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 시각은 가짜 Ticker로 움직여 창 경계/만료를 결정적으로 재현
+class LocalRateLimiterTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final LocalRateLimiter limiter = new LocalRateLimiter(10_000, nanos::get);
+
+    @Test
+    void admitsUpToLimitWithinWindow() {
+        for (int i = 0; i < 5; i++) {
+            RateLimitDecision decision = limiter.tryAcquire("k", 5, MINUTE);
+            assertThat(decision.isAllowed()).isTrue();
+            assertThat(decision.getRemaining()).isEqualTo(4 - i);
+        }
+        RateLimitDecision rejected = limiter.tryAcquire("k", 5, MINUTE);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRemaining()).isZero();
+        assertThat(rejected.getResetMillis()).isEqualTo(MINUTE.toMillis());
+    }
+
+    @Test
+    void slidingEstimateWeighsPreviousWindowAcrossBoundary() {
+        advance(Duration.ofSeconds(59)); // 첫 창 끝 무렵 한도까지 사용
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("k", 10, MINUTE).isAllowed()).isTrue();
+        }
+
+        // 다음 창 25% 지점: 직전 창 10회 * 0.75 = 7.5 -> 2회만 더 허용 (고정 창이면 10회 모두 허용됨)
+        advance(Duration.ofSeconds(16));
+        assertThat(limiter.tryAcquire("k", 10, MINUTE).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("k", 10, MINUTE).isAllowed()).isTrue();
+        RateLimitDecision rejected = limiter.tryAcquire("k", 10, MINUTE);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getResetMillis()).isEqualTo(Duration.ofSeconds(45).toMillis());
+
+        // 두 창 뒤에는 이전 기록이 영향을 주지 않음
+        advance(Duration.ofMinutes(2));
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("k", 10, MINUTE).isAllowed()).isTrue();
+        }
+    }
+
+    @Test
+    void countsSaturateWithoutOverflowingIntoOtherFields() {
+        LocalRateLimiter.Window window = new LocalRateLimiter.Window(MINUTE.toMillis());
+        for (int i = 0; i < LocalRateLimiter.MAX_COUNT + 5_000; i++) {
+            assertThat(window.tryAcquire(Integer.MAX_VALUE, 0).isAllowed()).isTrue();
+        }
+
+        // 다음 창 시작 시점: 직전 창 횟수가 MAX_COUNT 그대로 넘어와야 함 (넘쳐서 0이 되거나 창 번호를 건드리지 않음)
+        long nextWindow = MINUTE.toMillis();
+        assertThat(window.tryAcquire(LocalRateLimiter.MAX_COUNT, nextWindow).isAllowed()).isFalse();
+        RateLimitDecision decision = window.tryAcquire(LocalRateLimiter.MAX_COUNT + 1, nextWindow);
+        assertThat(decision.isAllowed()).isTrue();
+        assertThat(decision.getRemaining()).isZero();
+    }
+
+    @Test
+    void concurrentCallersNeverExceedLimit() throws Exception {
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        int limit = 100;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire("shared", limit, MINUTE).isAllowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(allowed).hasValue(limit);
+    }
+
+    @Test
+    void idleKeysExpireAfterTwoWindows() {
+        limiter.tryAcquire("idle", 5, MINUTE);
+        limiter.tryAcquire("active", 5, MINUTE);
+
+        advance(Duration.ofSeconds(90));
+        limiter.tryAcquire("active", 5, MINUTE);
+        advance(Duration.ofSeconds(31)); // idle: 마지막 요청 후 2분 1초, active: 31초
+        limiter.sweep();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        // 남아 있는 키는 카운트도 유지 (직전 창의 1회가 가중치만큼 반영되어 남은 횟수가 3)
+        assertThat(limiter.tryAcquire("active", 5, MINUTE).getRemaining()).isEqualTo(3);
+    }
+
+    @Test
+    void floodOfNewKeysStaysBoundedAndKeepsThrottledClient() {
+        LocalRateLimiter small = new LocalRateLimiter(1_000, nanos::get);
+        for (int i = 0; i < 3; i++) {
+            small.tryAcquire("hot", 3, MINUTE);
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            small.tryAcquire("flood-" + i, 3, MINUTE);
+            if (i % 50 == 0) {
+                assertThat(small.tryAcquire("hot", 3, MINUTE).isAllowed()).isFalse();
+            }
+        }
+        small.sweep();
+
+        assertThat(small.size()).isLessThanOrEqualTo(1_000);
+        assertThat(small.tryAcquire("hot", 3, MINUTE).isAllowed()).isFalse();
+    }
+
+    @Test
+    void rejectsWindowsTooShortToPack() {
+        assertThatThrownBy(() -> limiter.tryAcquire("k", 5, Duration.ofMillis(400)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.profile.config;
+
+import com.example.profile.SyntheticProfiles;
+import com.example.profile.dto.ProfileResponseDTO;
+import com.example.profile.dto.ProfileWrapper;
+import com.example.profile.model.ProfileMaster;
+import com.example.profile.repository.ProfileMasterRepository;
+import com.example.profile.service.FrontProfileService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PortfolioSnapshotRedisSerializerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PortfolioSnapshotRedisSerializerTest.class);
+
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper snapshotMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private ProfileMaster master;
+    private ProfileResponseDTO snapshot;
+
+    @BeforeEach
+    void setUp() {
+        master = SyntheticProfiles.large(8, 6, 4);
+        master.setId(1L);
+
+        ProfileMasterRepository repo = mock(ProfileMasterRepository.class);
+        given(repo.findActiveProfileGraph()).willReturn(Optional.of(master));
+        snapshot = new FrontProfileService(repo).getPublicProfile();
+    }
+
+    @Test
+    void binaryRoundTrip() {
+        PortfolioSnapshotRedisSerializer serializer = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.BINARY);
+
+        byte[] bytes = serializer.serialize(snapshot);
+
+        assertThat(bytes[0]).isEqualTo(PortfolioSnapshotRedisSerializer.MAGIC);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(snapshot);
+    }
+
+    @Test
+    void readsEitherFormatRegardlessOfConfiguredOne() {
+        PortfolioSnapshotRedisSerializer binary = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.BINARY);
+        PortfolioSnapshotRedisSerializer json = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.JSON);
+
+        assertThat(binary.deserialize(json.serialize(snapshot))).isEqualTo(snapshot);
+        assertThat(json.deserialize(binary.serialize(snapshot))).isEqualTo(snapshot);
+    }
+
+    @Test
+    void unknownSchemaVersionIsTreatedAsMiss() {
+        PortfolioSnapshotRedisSerializer serializer = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.BINARY);
+        byte[] bytes = serializer.serialize(snapshot);
+        bytes[1] = (byte) (PortfolioSnapshotRedisSerializer.SCHEMA_VERSION + 1);
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+    }
+
+    // 기존 방식(ProfileWrapper + default typing JSON)보다 저장 크기가 작아야 함
+    @Test
+    void binaryIsSmallerThanDefaultTypingJson() {
+        PortfolioSnapshotRedisSerializer binary = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.BINARY);
+        PortfolioSnapshotRedisSerializer json = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.JSON);
+
+        int binaryBytes = binary.serialize(snapshot).length;
+
+        assertThat(binaryBytes).isLessThan(json.serialize(snapshot).length);
+        assertThat(binaryBytes * 2).isLessThan(legacySerializer().serialize(legacyWrapper()).length);
+    }
+
+    // 기존 방식과 쓰기/읽기 시간 비교 (실행 환경에 따라 달라지므로 기록만 함, ./gradlew benchmark)
+    @Test
+    @Tag("benchmark")
+    void speedComparedWithDefaultTypingJson() {
+        PortfolioSnapshotRedisSerializer binary = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.BINARY);
+        PortfolioSnapshotRedisSerializer json = new PortfolioSnapshotRedisSerializer(snapshotMapper, PortfolioSnapshotRedisSerializer.Format.JSON);
+
+        Result legacyResult = measure(legacySerializer(), legacyWrapper());
+        Result jsonResult = measure(json, snapshot);
+        Result binaryResult = measure(binary, snapshot);
+
+        log.info("[portfolio cache] legacy default-typing JSON : {}", legacyResult);
+        log.info("[portfolio cache] snapshot JSON (debug)      : {}", jsonResult);
+        log.info("[portfolio cache] snapshot binary v{}         : {}", PortfolioSnapshotRedisSerializer.SCHEMA_VERSION, binaryResult);
+    }
+
+    private static GenericJackson2JsonRedisSerializer legacySerializer() {
+        ObjectMapper legacyMapper = new ObjectMapper();
+        legacyMapper.registerModule(new JavaTimeModule());
+        legacyMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        legacyMapper.activateDefaultTyping(BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(legacyMapper);
+    }
+
+    private ProfileWrapper legacyWrapper() {
+        ProfileWrapper wrapper = new ProfileWrapper();
+        wrapper.setProfileId(master.getId());
+        wrapper.setProfileTitle(master.getTitle());
+        wrapper.setConfig(master.getConfig());
+        wrapper.setSections(master.getSections());
+        wrapper.setKeyRoles(master.getKeyRoles());
+        wrapper.setSkillCategories(master.getSkillCategories());
+        wrapper.setCompanies(master.getCompanies());
+        wrapper.setEducations(master.getEducations());
+        wrapper.setCertifications(master.getCertifications());
+        return wrapper;
+    }
+
+    private record Result(int bytes, double writeMicros, double readMicros) {
+
+        @Override
+        public String toString() {
+            return String.format("%,8d bytes, write %6.1f us, read %6.1f us", bytes, writeMicros, readMicros);
+        }
+    }
+
+    private static <T> Result measure(RedisSerializer<T> serializer, T value) {
+        byte[] bytes = serializer.serialize(value);
+        // 워밍업
+        for (int i = 0; i < ITERATIONS; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        double write = averageMicros(() -> serializer.serialize(value));
+        double read = averageMicros(() -> serializer.deserialize(bytes));
+        return new Result(bytes.length, write, read);
+    }
+
+    private static double averageMicros(Supplier<?> task) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.get();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+}
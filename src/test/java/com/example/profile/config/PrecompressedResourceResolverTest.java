@@ -0,0 +1,98 @@
+package com.example.profile.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class PrecompressedResourceResolverTest {
+
+    private final PrecompressedResourceResolver resolver = new PrecompressedResourceResolver();
+    private final ResourceResolverChain chain = mock(ResourceResolverChain.class);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void servesGzipVariantWithEncodingHeaders() throws IOException {
+        Resource css = file("css/style.css", "body { color: black; }\n".repeat(100));
+
+        Resource resolved = resolve(css, "gzip");
+
+        assertThat(resolved).isInstanceOf(HttpResource.class);
+        HttpHeaders headers = ((HttpResource) resolved).getResponseHeaders();
+        assertThat(headers.getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(headers.getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(resolved.getFilename()).isEqualTo("style.css"); // Content-Type 판별용
+        assertThat(gunzip(resolved)).isEqualTo(css.getContentAsByteArray());
+    }
+
+    @Test
+    void servesOriginalWhenNoVariantApplies() throws IOException {
+        Resource css = file("css/style.css", "body { color: black; }\n".repeat(100));
+        Resource png = file("images/logo.png", "not really a png ".repeat(100));
+
+        assertThat(resolve(css, null)).isSameAs(css);
+        assertThat(resolve(css, "identity")).isSameAs(css);
+        assertThat(resolve(css, "gzip;q=0")).isSameAs(css);
+        assertThat(resolve(png, "gzip")).isSameAs(png);
+    }
+
+    @Test
+    void variantsAreKeyedByResourceAndRebuiltWhenItChanges() throws IOException {
+        // 핸들러(위치)가 달라 파일명이 같아도 서로 섞이지 않음
+        Resource app = file("js/main.js", "console.log('app');\n".repeat(100));
+        Resource vendor = file("webjars/main.js", "console.log('vendor');\n".repeat(100));
+        assertThat(gunzip(resolve(app, "gzip"))).isEqualTo(app.getContentAsByteArray());
+        assertThat(gunzip(resolve(vendor, "gzip"))).isEqualTo(vendor.getContentAsByteArray());
+
+        // 원본이 바뀌면(수정 시각 변경) 다시 압축
+        Path path = dir.resolve("js/main.js");
+        Files.writeString(path, "console.log('changed');\n".repeat(100));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(app.lastModified() + 10_000));
+        assertThat(gunzip(resolve(app, "gzip"))).isEqualTo(Files.readAllBytes(path));
+    }
+
+    private Resource resolve(Resource resource, String acceptEncoding) {
+        given(chain.resolveResource(any(), any(), anyList())).willReturn(resource);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/" + resource.getFilename());
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return resolver.resolveResource(request, resource.getFilename(), List.of(), chain);
+    }
+
+    private Resource file(String name, String content) throws IOException {
+        Path path = dir.resolve(name);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+        return new FileSystemResource(path);
+    }
+
+    private static byte[] gunzip(Resource resource) throws IOException {
+        byte[] compressed = StreamUtils.copyToByteArray(resource.getInputStream());
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return StreamUtils.copyToByteArray(in);
+        }
+    }
+}
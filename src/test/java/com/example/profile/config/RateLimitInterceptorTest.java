@@ -0,0 +1,228 @@
+package com.example.profile.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 정책 매칭/키 결정/헤더는 인메모리 제한기(local 프로필)로, Redis 장애 대체는 Redis 제한기를 mock으로 확인
+class RateLimitInterceptorTest {
+
+    private static final Duration MINUTE = Duration.ofMinutes(1);
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final LocalRateLimiter localRateLimiter = new LocalRateLimiter(10_000, nanos::get);
+    private final RedisSlidingWindowRateLimiter redisRateLimiter = mock(RedisSlidingWindowRateLimiter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void appliesOnlyPoliciesWhosePatternsMatch() throws Exception {
+        RateLimitInterceptor interceptor = localInterceptor(
+                policy("chat", "/api/chat/**", 2),
+                policy("contact-reveal", "/api/contact/reveal", 10));
+
+        MockHttpServletResponse chat = send(interceptor, request("/api/chat/stream"));
+        assertThat(chat.getHeader("RateLimit-Limit")).isEqualTo("2");
+        assertThat(chat.getHeader("RateLimit-Remaining")).isEqualTo("1");
+
+        // 컨텍스트 경로를 뺀 경로로 매칭
+        MockHttpServletRequest withContextPath = request("/app/api/contact/reveal");
+        withContextPath.setContextPath("/app");
+        assertThat(send(interceptor, withContextPath).getHeader("RateLimit-Limit")).isEqualTo("10");
+
+        MockHttpServletResponse other = send(interceptor, request("/api/contact"));
+        assertThat(other.getHeaderNames()).isEmpty();
+        assertThat(meterRegistry.get("rate.limit.decisions").tag("policy", "chat").tag("result", "allowed")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWithRetryAfterOnceLimitIsUsedUp() throws Exception {
+        RateLimitInterceptor interceptor = localInterceptor(policy("chat", "/api/chat/**", 2));
+        send(interceptor, request("/api/chat/stream"));
+        send(interceptor, request("/api/chat/stream"));
+
+        MockHttpServletRequest request = request("/api/chat/stream");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, null)).isFalse();
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("RateLimit-Policy")).isEqualTo("2;w=60");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("60");
+        assertThat(response.getHeader("Retry-After")).isEqualTo("60");
+        assertThat(response.getContentAsString()).contains("60초 후에 다시 시도");
+        assertThat(meterRegistry.get("rate.limit.decisions").tag("policy", "chat").tag("result", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void reportsMostRestrictiveMatchingPolicy() throws Exception {
+        RateLimitInterceptor interceptor = localInterceptor(
+                policy("api", "/api/**", 10),
+                policy("chat", "/api/chat/**", 2));
+
+        MockHttpServletResponse first = send(interceptor, request("/api/chat/stream"));
+        assertThat(first.getHeader("RateLimit-Policy")).isEqualTo("2;w=60");
+        assertThat(first.getHeader("RateLimit-Remaining")).isEqualTo("1");
+
+        send(interceptor, request("/api/chat/stream"));
+        MockHttpServletResponse rejected = send(interceptor, request("/api/chat/stream"));
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("RateLimit-Limit")).isEqualTo("2");
+
+        // 넓은 정책은 아직 여유가 있으므로 다른 경로는 통과
+        MockHttpServletResponse other = send(interceptor, request("/api/contact/reveal"));
+        assertThat(other.getStatus()).isEqualTo(200);
+        assertThat(other.getHeader("RateLimit-Remaining")).isEqualTo("6");
+    }
+
+    @Test
+    void headerAndCookieKeysFallBackToClientIp() throws Exception {
+        RateLimitProperties.Policy byHeader = policy("by-header", "/api/header", 1);
+        byHeader.setKey(RateLimitProperties.KeyType.HEADER);
+        byHeader.setKeyName("X-Client-Id");
+        RateLimitProperties.Policy byCookie = policy("by-cookie", "/api/cookie", 1);
+        byCookie.setKey(RateLimitProperties.KeyType.COOKIE);
+        byCookie.setKeyName("sid");
+        RateLimitInterceptor interceptor = localInterceptor(byHeader, byCookie);
+
+        MockHttpServletRequest clientA = request("/api/header");
+        clientA.addHeader("X-Client-Id", "a");
+        MockHttpServletRequest clientB = request("/api/header");
+        clientB.addHeader("X-Client-Id", "b");
+        assertThat(send(interceptor, clientA).getStatus()).isEqualTo(200);
+        assertThat(send(interceptor, clientB).getStatus()).isEqualTo(200);
+
+        // 값을 빼거나 비워 보내면 IP 하나로 묶임
+        assertThat(send(interceptor, request("/api/header")).getStatus()).isEqualTo(200);
+        MockHttpServletRequest blank = request("/api/header");
+        blank.addHeader("X-Client-Id", " ");
+        assertThat(send(interceptor, blank).getStatus()).isEqualTo(429);
+
+        MockHttpServletRequest withCookie = request("/api/cookie");
+        withCookie.setCookies(new Cookie("sid", "s1"));
+        assertThat(send(interceptor, withCookie).getStatus()).isEqualTo(200);
+        assertThat(send(interceptor, request("/api/cookie")).getStatus()).isEqualTo(200);
+        assertThat(send(interceptor, request("/api/cookie")).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void spoofedForwardedForDoesNotCreateNewBuckets() throws Exception {
+        RateLimitInterceptor interceptor = localInterceptor(policy("chat", "/api/chat/**", 1));
+
+        MockHttpServletRequest first = request("/api/chat/stream");
+        first.addHeader("X-Forwarded-For", "10.0.0.1");
+        MockHttpServletRequest second = request("/api/chat/stream");
+        second.addHeader("X-Forwarded-For", "10.0.0.2");
+
+        assertThat(send(interceptor, first).getStatus()).isEqualTo(200);
+        assertThat(send(interceptor, second).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void skipsAsyncRedispatch() throws Exception {
+        RateLimitInterceptor interceptor = localInterceptor(policy("chat", "/api/chat/**", 1));
+        send(interceptor, request("/api/chat/stream"));
+
+        MockHttpServletRequest redispatch = request("/api/chat/stream");
+        redispatch.setDispatcherType(DispatcherType.ASYNC);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(redispatch, response, null)).isTrue();
+        assertThat(response.getHeaderNames()).isEmpty();
+    }
+
+    @Test
+    void usesRedisDecisionWhenAvailable() throws Exception {
+        given(redisRateLimiter.tryAcquire(eq("rate_limit:chat:ip:203.0.113.7"), eq(5), eq(MINUTE)))
+                .willReturn(new RateLimitDecision(true, 5, 3, 40_000));
+        RateLimitInterceptor interceptor = interceptor(new MockEnvironment(), policy("chat", "/api/chat/**", 5));
+
+        MockHttpServletResponse response = send(interceptor, request("/api/chat/stream"));
+
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("3");
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("40");
+    }
+
+    @Test
+    void fallsBackToLocalLimiterWhileRedisIsDownAndProbesAgainAfterInterval() throws Exception {
+        given(redisRateLimiter.tryAcquire(anyString(), anyInt(), eq(MINUTE)))
+                .willThrow(new QueryTimeoutException("Redis command timed out"))
+                .willReturn(new RateLimitDecision(true, 2, 1, 60_000));
+        RateLimitInterceptor interceptor = interceptor(new MockEnvironment(), policy("chat", "/api/chat/**", 2));
+
+        // 장애: 인메모리 제한으로 판정하고, 다음 확인 시각 전까지는 Redis를 기다리지 않음
+        assertThat(send(interceptor, request("/api/chat/stream")).getHeader("RateLimit-Remaining")).isEqualTo("1");
+        assertThat(send(interceptor, request("/api/chat/stream")).getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(send(interceptor, request("/api/chat/stream")).getStatus()).isEqualTo(429);
+        verify(redisRateLimiter, times(1)).tryAcquire(anyString(), anyInt(), eq(MINUTE));
+
+        // 확인 간격이 지나면 다시 Redis로
+        AtomicLong nextProbeAt = (AtomicLong) ReflectionTestUtils.getField(interceptor, "nextRedisProbeAt");
+        nextProbeAt.set(0);
+        MockHttpServletResponse recovered = send(interceptor, request("/api/chat/stream"));
+
+        assertThat(recovered.getStatus()).isEqualTo(200);
+        assertThat(recovered.getHeader("RateLimit-Remaining")).isEqualTo("1");
+        verify(redisRateLimiter, times(2)).tryAcquire(anyString(), anyInt(), eq(MINUTE));
+    }
+
+    @Test
+    void localProfileNeverCallsRedis() throws Exception {
+        RateLimitInterceptor interceptor = localInterceptor(policy("chat", "/api/chat/**", 2));
+
+        send(interceptor, request("/api/chat/stream"));
+
+        verify(redisRateLimiter, never()).tryAcquire(anyString(), anyInt(), eq(MINUTE));
+    }
+
+    private RateLimitInterceptor localInterceptor(RateLimitProperties.Policy... policies) {
+        MockEnvironment env = new MockEnvironment();
+        env.setActiveProfiles("local");
+        return interceptor(env, policies);
+    }
+
+    private RateLimitInterceptor interceptor(MockEnvironment env, RateLimitProperties.Policy... policies) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policies));
+        return new RateLimitInterceptor(redisRateLimiter, localRateLimiter, env, new ClientIpResolver(),
+                properties, meterRegistry);
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String path, int limit) {
+        return new RateLimitProperties.Policy(name, path, limit, MINUTE);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr("203.0.113.7");
+        return request;
+    }
+
+    private static MockHttpServletResponse send(RateLimitInterceptor interceptor, MockHttpServletRequest request)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        return response;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.profile.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 스크립트 반환값 {허용 여부, 남은 횟수, 회복까지 ms} -> RateLimitDecision 매핑 (스크립트 자체는 RedisSlidingWindowScriptTest)
+class RedisSlidingWindowRateLimiterTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisSlidingWindowRateLimiter limiter = new RedisSlidingWindowRateLimiter(providerOf(redisTemplate));
+
+    @Test
+    void mapsAllowedResult() {
+        givenScriptReturns(List.of(1L, 4L, 60_000L));
+
+        RateLimitDecision decision = limiter.tryAcquire("rate_limit:chat:ip:1.2.3.4", 5, Duration.ofMinutes(1));
+
+        assertThat(decision.isAllowed()).isTrue();
+        assertThat(decision.getLimit()).isEqualTo(5);
+        assertThat(decision.getRemaining()).isEqualTo(4);
+        assertThat(decision.getResetMillis()).isEqualTo(60_000L);
+        assertThat(decision.resetSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    void mapsRejectedResult() {
+        givenScriptReturns(List.of(0L, 0L, 1_500L));
+
+        RateLimitDecision decision = limiter.tryAcquire("k", 5, Duration.ofMinutes(1));
+
+        assertThat(decision.isAllowed()).isFalse();
+        assertThat(decision.getRemaining()).isZero();
+        assertThat(decision.resetSeconds()).isEqualTo(2); // 올림
+    }
+
+    @Test
+    void rejectsMalformedResult() {
+        givenScriptReturns(List.of(1L));
+
+        assertThatThrownBy(() -> limiter.tryAcquire("k", 5, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void returnsNullWithoutRedis() {
+        RedisSlidingWindowRateLimiter withoutRedis = new RedisSlidingWindowRateLimiter(providerOf(null));
+
+        assertThat(withoutRedis.tryAcquire("k", 5, Duration.ofMinutes(1))).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScriptReturns(List<Long> result) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).willReturn(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<StringRedisTemplate> providerOf(StringRedisTemplate template) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(template);
+        return provider;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.profile.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 실제 Redis에서 sliding log Lua 스크립트의 판정/남은 횟수/회복 시간/TTL 확인 (Docker가 없으면 건너뜀)
+@Testcontainers(disabledWithoutDocker = true)
+class RedisSlidingWindowScriptTest {
+
+    private static final String KEY = "rate_limit:test:ip:127.0.0.1";
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisSlidingWindowRateLimiter limiter;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate.delete(KEY);
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(redisTemplate);
+        limiter = new RedisSlidingWindowRateLimiter(provider);
+    }
+
+    @Test
+    void countsDownThenRejectsWithoutRecordingRejectedRequests() {
+        Duration window = Duration.ofMinutes(1);
+        for (int i = 0; i < 5; i++) {
+            RateLimitDecision decision = limiter.tryAcquire(KEY, 5, window);
+            assertThat(decision.isAllowed()).isTrue();
+            assertThat(decision.getRemaining()).isEqualTo(4 - i);
+        }
+
+        RateLimitDecision rejected = limiter.tryAcquire(KEY, 5, window);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRemaining()).isZero();
+        // 가장 오래된 기록이 창 밖으로 나갈 때까지 (방금 기록했으므로 창 길이 이하, 0 초과)
+        assertThat(rejected.getResetMillis()).isPositive().isLessThanOrEqualTo(window.toMillis());
+        assertThat(redisTemplate.opsForZSet().zCard(KEY)).isEqualTo(5);
+    }
+
+    @Test
+    void keyAlwaysCarriesWindowTtl() {
+        limiter.tryAcquire(KEY, 5, Duration.ofSeconds(30));
+
+        Long ttl = redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS);
+        assertThat(ttl).isPositive().isLessThanOrEqualTo(30_000L);
+    }
+
+    @Test
+    void recordsSlideOutOfWindow() throws InterruptedException {
+        Duration window = Duration.ofSeconds(1);
+        assertThat(limiter.tryAcquire(KEY, 2, window).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire(KEY, 2, window).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire(KEY, 2, window).isAllowed()).isFalse();
+
+        Thread.sleep(window.toMillis() + 100);
+
+        RateLimitDecision decision = limiter.tryAcquire(KEY, 2, window);
+        assertThat(decision.isAllowed()).isTrue();
+        assertThat(decision.getRemaining()).isEqualTo(1);
+    }
+}
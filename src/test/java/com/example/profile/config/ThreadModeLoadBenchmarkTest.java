@@ -0,0 +1,149 @@
+package com.example.profile.config;
+
+import com.example.profile.service.AdminProfileService;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 앱(Tomcat + Hikari + JPA + Thymeleaf)을 플랫폼 스레드 / 가상 스레드 모드로 각각 띄워
+// 관리자 목록 페이지(요청마다 DB 조회 + 렌더링)에 동시 요청을 보내고 처리량/p99를 로그로 남김
+// 시간 측정은 실행 환경에 따라 흔들리므로 기본 test 태스크에서는 제외 (./gradlew benchmark로 실행)
+// local 프로필이라 Redis(Lettuce) 경로는 포함하지 않음
+@Tag("benchmark")
+class ThreadModeLoadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadModeLoadBenchmarkTest.class);
+
+    private static final String ACCESS_KEY = "benchmark";
+    private static final int CONCURRENT_CLIENTS = 400;
+    private static final int REQUESTS = 4_000;
+    private static final int PROFILES = 30;
+
+    private static final String LOCAL = "spring.profiles.active=local";
+    private static final String ADMIN_KEY = "app.admin.access-key=" + ACCESS_KEY;
+    private static final String GEMINI_KEY = "api.gemini.api-key=test";
+    private static final String TOSS_KEY = "api.payments.toss.secret-key=test";
+    private static final String QUOTE_KEYWORDS = "spring.jpa.properties.hibernate.auto_quote_keyword=true";
+    private static final String TOMCAT_THREADS = "server.tomcat.threads.max=50";
+    private static final String DB_POOL = "spring.datasource.hikari.maximum-pool-size=10";
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            LOCAL, ADMIN_KEY, GEMINI_KEY, TOSS_KEY, QUOTE_KEYWORDS, TOMCAT_THREADS, DB_POOL,
+            "spring.threads.virtual.enabled=false"})
+    class PlatformThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ServletWebServerApplicationContext context;
+
+        @Autowired
+        private AdminProfileService adminProfileService;
+
+        @Test
+        void servesConcurrentLoad() throws Exception {
+            assertThat(tomcatExecutor(context)).isNotInstanceOf(VirtualThreadExecutor.class);
+            seed(adminProfileService);
+            run("platform", port);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            LOCAL, ADMIN_KEY, GEMINI_KEY, TOSS_KEY, QUOTE_KEYWORDS, TOMCAT_THREADS, DB_POOL,
+            "spring.threads.virtual.enabled=true"})
+    class VirtualThreads {
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ServletWebServerApplicationContext context;
+
+        @Autowired
+        private AdminProfileService adminProfileService;
+
+        @Test
+        void servesConcurrentLoad() throws Exception {
+            assertThat(tomcatExecutor(context)).isInstanceOf(VirtualThreadExecutor.class);
+            seed(adminProfileService);
+            run("virtual", port);
+        }
+    }
+
+    private static Executor tomcatExecutor(ServletWebServerApplicationContext context) {
+        return ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+
+    private static void seed(AdminProfileService adminProfileService) {
+        for (int i = 0; i < PROFILES; i++) {
+            adminProfileService.createNewProfile("Benchmark " + i);
+        }
+    }
+
+    private static void run(String label, int port) throws Exception {
+        URI uri = URI.create("http://127.0.0.1:" + port + "/admin/profiles?key=" + ACCESS_KEY);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient http = HttpClient.newBuilder().executor(clients).build();
+            for (int i = 0; i < 50; i++) { // 워밍업 (JIT, 템플릿 캐시, 커넥션 풀)
+                assertThat(http.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding()).statusCode())
+                        .isEqualTo(200);
+            }
+
+            Semaphore inFlight = new Semaphore(CONCURRENT_CLIENTS);
+            AtomicInteger failures = new AtomicInteger();
+            long[] latencies = new long[REQUESTS];
+            List<Future<?>> futures = new ArrayList<>(REQUESTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                futures.add(clients.submit(() -> {
+                    try {
+                        long t0 = System.nanoTime();
+                        HttpResponse<Void> response = http.send(HttpRequest.newBuilder(uri).build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = System.nanoTime() - t0;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(120, TimeUnit.SECONDS);
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(failures).hasValue(0);
+            Arrays.sort(latencies);
+            log.info("[thread mode] {}: {} req/s, p50 {} ms, p99 {} ms", label, Math.round(REQUESTS / seconds),
+                    latencies[REQUESTS / 2] / 1_000_000, latencies[(int) (REQUESTS * 0.99) - 1] / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.profile.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// L2는 메모리 캐시로 대신하고, 로딩/무효화가 겹칠 때 오래된 값이 캐시에 남지 않는지 확인
+class TwoTierCacheTest {
+
+    private static final String KEY = "activeProfile";
+
+    private HookedL2 l2;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new HookedL2();
+        TwoTierCacheManager manager = mock(TwoTierCacheManager.class);
+        given(manager.leaseKey(any(), any())).willReturn("lease");
+        given(manager.tryAcquireLease(any())).willReturn(true);
+        given(manager.getLeaseTtl()).willReturn(Duration.ofSeconds(1));
+        cache = new TwoTierCache("portfolio", Caffeine.newBuilder().build(), l2, manager, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void loaderDoesNotOverwriteValuePutWhileLoading() {
+        cache.get(KEY, () -> {
+            // 로더가 이전 데이터를 읽는 사이 커밋 후 재생성 결과가 먼저 올라옴
+            cache.put(KEY, "new");
+            return "old";
+        });
+
+        assertThat(cache.get(KEY).get()).isEqualTo("new");
+        assertThat(l2.get(KEY).get()).isEqualTo("new");
+    }
+
+    @Test
+    void loaderFillsEmptyCache() {
+        assertThat(cache.get(KEY, () -> "loaded")).isEqualTo("loaded");
+        assertThat(l2.get(KEY).get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void l2ReadRacingRemoteInvalidationIsNotPinnedInL1() {
+        l2.put(KEY, "old");
+        l2.afterNextRead(() -> {
+            // 이 노드가 L2에서 이전 값을 읽은 직후, 다른 노드가 값을 바꾸고 무효화를 알림
+            l2.put(KEY, "new");
+            cache.evictLocal(KEY);
+        });
+
+        assertThat(cache.get(KEY).get()).isEqualTo("old"); // 이미 읽은 요청은 이전 값
+        assertThat(cache.get(KEY).get()).isEqualTo("new"); // 다음 요청은 L1에 남은 이전 값 대신 L2를 다시 읽음
+    }
+
+    @Test
+    void l2ReadRacingEvictIsNotPinnedInL1() {
+        l2.put(KEY, "old");
+        l2.afterNextRead(() -> cache.evict(KEY));
+
+        cache.get(KEY);
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void loadRacingEvictIsNotCached() {
+        Object loaded = cache.get(KEY, () -> {
+            cache.evict(KEY); // 로딩 중 커밋된 변경으로 비워짐
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(l2.get(KEY)).isNull();
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    void loaderReplacesValueThatCannotBeDecoded() {
+        l2.storeUndecodable(KEY); // 이전 스키마 버전으로 저장된 스냅샷
+
+        assertThat(cache.get(KEY, () -> "loaded")).isEqualTo("loaded");
+
+        assertThat(l2.get(KEY).get()).isEqualTo("loaded");
+    }
+
+    // 다음 한 번의 조회가 값을 읽은 직후 끼어들 동작을 실행하는 L2
+    // (읽을 수 없는 값은 RedisCache처럼 get은 미스, putIfAbsent는 빈 값이 든 래퍼를 돌려주고 덮어쓰지 않음)
+    private static class HookedL2 extends ConcurrentMapCache {
+
+        private final AtomicReference<Runnable> hook = new AtomicReference<>();
+        private final Set<Object> undecodable = ConcurrentHashMap.newKeySet();
+
+        HookedL2() {
+            super("portfolio", false);
+        }
+
+        void afterNextRead(Runnable action) {
+            hook.set(action);
+        }
+
+        void storeUndecodable(Object key) {
+            undecodable.add(key);
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = undecodable.contains(key) ? null : super.get(key);
+            Runnable action = hook.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+            return value;
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            return undecodable.contains(key) ? new SimpleValueWrapper(null) : super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            undecodable.remove(key);
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            undecodable.remove(key);
+            super.evict(key);
+        }
+    }
+}
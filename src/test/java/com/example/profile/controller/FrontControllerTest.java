@@ -0,0 +1,130 @@
+package com.example.profile.controller;
+
+import com.example.profile.config.CompressedContent;
+import com.example.profile.dto.ProfileResponseDTO;
+import com.example.profile.service.FrontProfileService;
+import com.example.profile.service.IndexPageCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 메인 페이지 조건부 요청: 인코딩별 ETag, Vary, 304, 이전 이력서 재활성화 후 Last-Modified
+class FrontControllerTest {
+
+    private static final String HTML = "<html><body>" + "포트폴리오 본문 ".repeat(200) + "</body></html>";
+
+    private final FrontProfileService frontProfileService = mock(FrontProfileService.class);
+    private final SpringTemplateEngine templateEngine = mock(SpringTemplateEngine.class);
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new FrontController(frontProfileService, new IndexPageCache(), templateEngine))
+                .build();
+        showing(profile("1-5000", System.currentTimeMillis()), HTML);
+    }
+
+    @Test
+    void identityResponseRevalidatesWithIfNoneMatch() throws Exception {
+        MvcResult first = mockMvc.perform(get("/"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        assertThat(first.getResponse().getContentAsString(StandardCharsets.UTF_8)).isEqualTo(HTML);
+
+        MvcResult revalidated = mockMvc.perform(get("/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        assertThat(revalidated.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void gzipVariantHasItsOwnEtag() throws Exception {
+        MvcResult gzip = mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        String etag = gzip.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-gz\"");
+
+        mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // 압축본의 ETag로 원본을 재검증하면 다른 표현이므로 본문을 다시 내려줌
+        mockMvc.perform(get("/").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void brotliVariantHasItsOwnEtag() throws Exception {
+        assumeTrue(CompressedContent.of(HTML.getBytes(StandardCharsets.UTF_8)).getBrotli() != null,
+                "brotli native library unavailable");
+
+        MvcResult brotli = mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        String etag = brotli.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-br\"");
+
+        mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/").header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    @Test
+    void reactivatingOlderProfileDoesNotMoveLastModifiedBackwards() throws Exception {
+        long builtAt = System.currentTimeMillis();
+        showing(profile("2-9000000", builtAt), HTML);
+        MvcResult current = mockMvc.perform(get("/")).andReturn();
+        long lastModified = current.getResponse().getDateHeader(HttpHeaders.LAST_MODIFIED);
+
+        // 수정 시각이 더 오래된 이력서를 활성화해도 새 스냅샷이므로 Last-Modified는 앞으로 감
+        showing(profile("1-5000", builtAt + 2000), "<html><body>이전 이력서</body></html>");
+        MvcResult switched = mockMvc.perform(get("/")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, current.getResponse().getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(switched.getResponse().getDateHeader(HttpHeaders.LAST_MODIFIED)).isGreaterThan(lastModified);
+        assertThat(switched.getResponse().getContentAsString(StandardCharsets.UTF_8)).contains("이전 이력서");
+    }
+
+    private void showing(ProfileResponseDTO profile, String html) {
+        given(frontProfileService.getPublicProfile()).willReturn(profile);
+        given(templateEngine.process(eq("index"), any(IContext.class))).willReturn(html);
+    }
+
+    private static ProfileResponseDTO profile(String version, long builtAt) {
+        return ProfileResponseDTO.builder().version(version).builtAt(builtAt).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.profile.repository;
+
+import com.example.profile.SyntheticProfiles;
+import com.example.profile.config.JpaConfig;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대용량 이력서 저장 시 DB 왕복 횟수 비교 (시간 비교는 benchmark 태그, ./gradlew benchmark)
+// - before: 배치 없음 (IDENTITY 시절과 같이 행마다 INSERT 한 번)
+// - after : 시퀀스 pooled 할당 + JDBC 배치 + INSERT 정렬
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import(JpaConfig.class)
+class ProfileBatchInsertTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileBatchInsertTest.class);
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        // 워밍업 (시퀀스 첫 할당, 구문 캐시 등)
+        save(50, 1, 1, 1);
+    }
+
+    @Test
+    void batchedInsertsNeedFarFewerRoundTrips() {
+        Result before = save(1, 6, 8, 5);
+        Result after = save(50, 6, 8, 5);
+
+        assertThat(before.entities).isEqualTo(after.entities);
+        assertThat(before.statements).isGreaterThanOrEqualTo(before.entities);
+        assertThat(after.statements * 5).isLessThan(before.statements);
+    }
+
+    // 실행 환경에 따라 달라지므로 시간은 기록만 함
+    @Test
+    @Tag("benchmark")
+    void batchedInsertTiming() {
+        Result before = save(1, 6, 8, 5);
+        Result after = save(50, 6, 8, 5);
+
+        log.info("[profile save] unbatched : {}", before);
+        log.info("[profile save] batched   : {}", after);
+    }
+
+    private record Result(long entities, long statements, double millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%,6d entities, %,5d statements, %6.1f ms", entities, statements, millis);
+        }
+    }
+
+    private Result save(int batchSize, int companies, int projectsPerCompany, int problemsPerProject) {
+        Session session = em.getEntityManager().unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        statistics.clear();
+
+        long start = System.nanoTime();
+        em.persist(SyntheticProfiles.large(companies, projectsPerCompany, problemsPerProject));
+        em.flush();
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+        Result result = new Result(statistics.getEntityInsertCount(), statistics.getPrepareStatementCount(), millis);
+        em.clear();
+        return result;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.profile.repository;
+
+import com.example.profile.SyntheticProfiles;
+import com.example.profile.model.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+class ProfileGraphRepositoryTest {
+
+    @Autowired
+    private ProfileMasterRepository masterRepo;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void activeProfileGraphLoadsInFixedNumberOfQueries() {
+        persist(SyntheticProfiles.large(3, 4, 3));
+
+        statistics.clear();
+        ProfileMaster profile = masterRepo.findActiveProfileGraph().orElseThrow();
+        int touched = touchWholeGraph(profile);
+
+        assertThat(touched).isGreaterThan(100);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(ProfileGraphRepositoryImpl.GRAPH_QUERY_COUNT);
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithProfileSize() {
+        ProfileMaster small = SyntheticProfiles.large(1, 1, 1);
+        small.setActive(false);
+        Long smallId = persist(small);
+        Long largeId = persist(SyntheticProfiles.large(6, 8, 5));
+
+        statistics.clear();
+        touchWholeGraph(masterRepo.findProfileGraphById(smallId).orElseThrow());
+        long smallQueries = statistics.getPrepareStatementCount();
+        em.clear();
+
+        statistics.clear();
+        touchWholeGraph(masterRepo.findProfileGraphById(largeId).orElseThrow());
+        long largeQueries = statistics.getPrepareStatementCount();
+
+        assertThat(largeQueries).isEqualTo(smallQueries).isEqualTo(ProfileGraphRepositoryImpl.GRAPH_QUERY_COUNT);
+    }
+
+    @Test
+    void plainLazyLoadingIsNPlusOne() {
+        persist(SyntheticProfiles.large(3, 4, 3));
+
+        statistics.clear();
+        touchWholeGraph(masterRepo.findByIsActiveTrue().orElseThrow());
+
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(ProfileGraphRepositoryImpl.GRAPH_QUERY_COUNT * 3L);
+    }
+
+    private Long persist(ProfileMaster profile) {
+        Long id = em.persistAndFlush(profile).getId();
+        em.clear();
+        return id;
+    }
+
+    // 트리 전체를 순회하며 지연 로딩 컬렉션을 모두 건드림 (추가 쿼리가 나가면 카운트에 잡힘)
+    private int touchWholeGraph(ProfileMaster p) {
+        int count = 1;
+        if (p.getConfig() != null) count += p.getConfig().getFullName() != null ? 1 : 0;
+        count += p.getSections().size() + p.getKeyRoles().size() + p.getEducations().size() + p.getCertifications().size();
+        for (SkillCategory category : p.getSkillCategories()) {
+            count += 1 + category.getSkills().size();
+        }
+        for (Company company : p.getCompanies()) {
+            count++;
+            for (ProjectMaster project : company.getProjects()) {
+                count++;
+                for (ProjectMeta meta : project.getMetaItems()) {
+                    count += 1 + meta.getTechStacks().size();
+                    for (Problem problem : meta.getProblems()) {
+                        count += 1 + problem.getSolutions().size() + problem.getImpacts().size();
+                    }
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.profile.service;
+
+import com.example.profile.model.ProfileMaster;
+import com.example.profile.repository.ProfileMasterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 활성 이력서 전환 (UPDATE 두 번): 실패 시 롤백까지 보려고 테스트 트랜잭션 없이 서비스 트랜잭션만 사용
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@Import(AdminProfileService.class)
+@RecordApplicationEvents
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminProfileActivationTest {
+
+    @Autowired
+    private AdminProfileService service;
+
+    @Autowired
+    private ProfileMasterRepository masterRepo;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void tearDown() {
+        masterRepo.deleteAll();
+    }
+
+    @Test
+    void leavesExactlyTheChosenProfileActive() {
+        save("current", true);
+        Long chosen = save("chosen", false);
+        save("other", false);
+
+        service.setActiveProfile(chosen);
+
+        assertThat(activeIds()).containsExactly(chosen);
+        assertThat(events.stream(ProfileActivatedEvent.class))
+                .singleElement()
+                .satisfies(e -> assertThat(e.getProfileId()).isEqualTo(chosen));
+    }
+
+    @Test
+    void reactivatingTheActiveProfileKeepsIt() {
+        Long current = save("current", true);
+        save("other", false);
+
+        service.setActiveProfile(current);
+
+        assertThat(activeIds()).containsExactly(current);
+    }
+
+    @Test
+    void unknownProfileRollsBackDeactivation() {
+        Long current = save("current", true);
+
+        assertThatThrownBy(() -> service.setActiveProfile(current + 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 먼저 실행된 "나머지 해제"도 롤백되어 활성 이력서가 없어지지 않음
+        assertThat(activeIds()).containsExactly(current);
+        assertThat(events.stream(ProfileActivatedEvent.class)).isEmpty();
+    }
+
+    private Long save(String title, boolean active) {
+        ProfileMaster profile = new ProfileMaster();
+        profile.setTitle(title);
+        profile.setActive(active);
+        return masterRepo.save(profile).getId();
+    }
+
+    private List<Long> activeIds() {
+        return masterRepo.findAll().stream().filter(ProfileMaster::isActive).map(ProfileMaster::getId).toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.profile.service;
+
+import com.example.profile.SyntheticProfiles;
+import com.example.profile.config.JpaConfig;
+import com.example.profile.dto.ProfileWrapper;
+import com.example.profile.model.KeyRole;
+import com.example.profile.model.ProfileMaster;
+import com.example.profile.repository.ProfileMasterRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리자 저장: 폼으로 되돌아온 이력서(분리된 객체)를 병합할 때 실제로 바뀐 행만 SQL로 나가는지
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@Import({JpaConfig.class, AdminProfileService.class})
+@RecordApplicationEvents
+class AdminProfileServiceTest {
+
+    private static final LocalDateTime SAVED_AT = LocalDateTime.of(2026, 1, 1, 9, 0); // SyntheticProfiles의 수정일
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Autowired
+    private AdminProfileService service;
+
+    @Autowired
+    private ProfileMasterRepository masterRepo;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Statistics statistics;
+    private Long profileId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        profileId = em.persistAndFlush(SyntheticProfiles.large(2, 2, 2)).getId();
+        em.clear();
+    }
+
+    @Test
+    void unchangedFormIssuesNoWrites() throws Exception {
+        ProfileWrapper form = editorForm();
+
+        statistics.clear();
+        ProfileChangeSet changes = service.saveProfile(profileId, form);
+        em.flush();
+
+        assertThat(changes.isEmpty()).isTrue();
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(events.stream(PortfolioChangedEvent.class)).isEmpty();
+        assertThat(reload().getLastModifiedDate()).isEqualTo(SAVED_AT);
+    }
+
+    @Test
+    void singleFieldEditUpdatesOnlyThatRowAndTheModifiedDate() throws Exception {
+        ProfileWrapper form = editorForm();
+        form.getConfig().setEmail("new@example.com");
+
+        statistics.clear();
+        ProfileChangeSet changes = service.saveProfile(profileId, form);
+        em.flush();
+
+        assertThat(changes.getUpdated()).isEqualTo(1);
+        assertThat(changes.getInserted()).isZero();
+        assertThat(changes.getDeleted()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2); // resume_config + profile_master(수정일)
+        assertThat(events.stream(PortfolioChangedEvent.class))
+                .singleElement()
+                .satisfies(e -> assertThat(e.getProfileId()).isEqualTo(profileId));
+
+        ProfileMaster saved = reload();
+        assertThat(saved.getConfig().getEmail()).isEqualTo("new@example.com");
+        assertThat(saved.getLastModifiedDate()).isAfter(SAVED_AT);
+    }
+
+    @Test
+    void insertedAndDeletedCountsIncludeChildren() throws Exception {
+        ProfileWrapper form = editorForm();
+        form.getCompanies().remove(0); // 하위 프로젝트/메타/문제/해결/성과까지 함께 삭제
+        KeyRole role = new KeyRole();
+        role.setRoleContent("새 핵심 역할");
+        role.setSortOrder(10);
+        form.getKeyRoles().add(role);
+
+        statistics.clear();
+        ProfileChangeSet changes = service.saveProfile(profileId, form);
+        em.flush();
+
+        assertThat(changes.getInserted()).isEqualTo(1);
+        assertThat(changes.getDeleted()).isGreaterThan(1);
+        assertThat((long) changes.getInserted()).isEqualTo(statistics.getEntityInsertCount());
+        assertThat((long) changes.getDeleted()).isEqualTo(statistics.getEntityDeleteCount());
+        assertThat(changes.getUpdated()).isZero();
+        assertThat(reload().getCompanies()).hasSize(1);
+    }
+
+    // 에디터 화면에 내려갔다가 폼으로 다시 올라온 것처럼 영속성 컨텍스트와 분리된 사본
+    private ProfileWrapper editorForm() throws Exception {
+        ProfileWrapper wrapper = service.getProfileWrapper(profileId);
+        String json = objectMapper.writeValueAsString(wrapper);
+        em.clear();
+        return objectMapper.readValue(json, ProfileWrapper.class);
+    }
+
+    private ProfileMaster reload() {
+        em.clear();
+        return masterRepo.findProfileGraphById(profileId).orElseThrow();
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ChatRequestDto;
+import com.example.profile.dto.ChatStreamEvent;
+import com.example.profile.dto.ProfileResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 답변 캐시 키 정규화: 표기만 다른 같은 질문은 한 키로, 기술 이름이 다른 질문은 다른 키로
+// 적중/미스/우회 판정과 카운터, 끝까지 받은 답변만 저장되는지는 로컬 스텁 모델 API로 확인
+class ChatAnswerCacheTest {
+
+    private static final String DELTA = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"답변\"}]}}]}\n\n";
+    private static final String DONE = "data: {\"candidates\":[{\"finishReason\":\"STOP\"}]}\n\n";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    private final ChatAnswerCache answerCache = new ChatAnswerCache(cacheManager, meterRegistry);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch releaseUpstream = new CountDownLatch(1);
+    private volatile String upstreamBody = DELTA + DONE;
+    private volatile boolean upstreamHangs;
+
+    private HttpServer stub;
+    private GeminiChatService chatService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/", exchange -> {
+            upstreamCalls.incrementAndGet();
+            try (InputStream in = exchange.getRequestBody()) {
+                in.readAllBytes();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(upstreamBody.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (upstreamHangs) {
+                    releaseUpstream.await(5, TimeUnit.SECONDS); // 클라이언트가 끊을 때까지 스트림을 열어 둠
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // 클라이언트가 먼저 끊은 경우
+            }
+        });
+        stub.start();
+
+        FrontProfileService frontProfileService = mock(FrontProfileService.class);
+        given(frontProfileService.getPublicProfile())
+                .willReturn(ProfileResponseDTO.builder().profileId(1L).version("1-1000").fullName("홍길동").build());
+        ObjectMapper objectMapper = new ObjectMapper();
+        ChatPromptCache promptCache = new ChatPromptCache(objectMapper, new PortfolioPromptRenderer(), new PortfolioRetriever());
+        chatService = new GeminiChatService(frontProfileService, objectMapper, promptCache, answerCache,
+                new ChatBulkhead(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(chatService, "geminiApiKey", "test-key");
+        ReflectionTestUtils.setField(chatService, "geminiBaseUrl", "http://127.0.0.1:" + stub.getAddress().getPort());
+        chatService.initWebClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseUpstream.countDown();
+        stub.stop(0);
+    }
+
+    @Test
+    void ignoresSpacingAndSentencePunctuation() {
+        String key = ChatAnswerCache.normalize("어떤 기술 스택을 쓰나요?");
+
+        assertThat(ChatAnswerCache.normalize("어떤  기술 스택을 쓰나요")).isEqualTo(key);
+        assertThat(ChatAnswerCache.normalize("어떤 기술스택을 쓰나요 ?!")).isEqualTo(key);
+        assertThat(ChatAnswerCache.normalize("Node.js 써봤나요.")).isEqualTo(ChatAnswerCache.normalize("node.js 써봤나요"));
+    }
+
+    @Test
+    void keepsSymbolsThatArePartOfTechnologyNames() {
+        assertThat(ChatAnswerCache.normalize("C++ 경험은?"))
+                .isNotEqualTo(ChatAnswerCache.normalize("C# 경험은?"))
+                .isNotEqualTo(ChatAnswerCache.normalize("C 경험은?"));
+        assertThat(ChatAnswerCache.normalize("C# 경험은?")).isNotEqualTo(ChatAnswerCache.normalize("C 경험은?"));
+        assertThat(ChatAnswerCache.normalize("Node.js 경험은?")).isNotEqualTo(ChatAnswerCache.normalize("Nodejs 경험은?"));
+    }
+
+    @Test
+    void keyChangesWithSnapshotVersion() {
+        ChatRequestDto request = request("어떤 기술 스택을 쓰나요?");
+
+        String before = answerCache.keyFor(request, "1-1000");
+        String after = answerCache.keyFor(request, "1-2000");
+
+        assertThat(before).isNotEqualTo(after).startsWith("1-1000:");
+        assertThat(after).startsWith("1-2000:");
+
+        // 이전 버전에서 저장한 답변은 새 버전의 질문에 쓰이지 않음
+        answerCache.store(before, List.of(ChatStreamEvent.delta("답변")), 10);
+        assertThat(answerCache.find(after)).isNull();
+        assertThat(answerCache.find(before)).isNotNull();
+    }
+
+    @Test
+    void bypassesFollowUpAndBlankQuestions() {
+        ChatRequestDto followUp = request("그건 어떻게 해결했어?");
+        ChatRequestDto.ChatMessage previous = new ChatRequestDto.ChatMessage();
+        previous.setRole("user");
+        previous.setText("가장 어려웠던 문제는?");
+        followUp.setHistory(List.of(previous));
+
+        assertThat(answerCache.keyFor(followUp, "1-1000")).isNull();
+        assertThat(answerCache.keyFor(request(" ?! "), "1-1000")).isNull();
+        assertThat(requests("bypass")).isEqualTo(2);
+        assertThat(requests("miss")).isZero();
+    }
+
+    @Test
+    void completedAnswerIsReplayedWithoutCallingUpstream() {
+        List<ChatStreamEvent> first = chatService.streamChatResponse(request("어떤 기술 스택을 쓰나요?"), "k").collectList().block();
+        List<ChatStreamEvent> replayed = chatService.streamChatResponse(request("어떤 기술스택을 쓰나요"), "k").collectList().block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(replayed).extracting(ChatStreamEvent::getEventName).containsExactly(ChatStreamEvent.DELTA, ChatStreamEvent.DONE);
+        assertThat(replayed).extracting(ChatStreamEvent::getText).isEqualTo(first.stream().map(ChatStreamEvent::getText).toList());
+        assertThat(requests("miss")).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.answer.cache.saved.latency").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void answerWithoutTextIsNotStored() {
+        answerCache.store("1-1000:empty", List.of(ChatStreamEvent.done("SAFETY", null, null)), 10);
+
+        assertThat(cachedAnswers()).isEmpty();
+    }
+
+    @Test
+    void failedStreamIsNotCached() {
+        upstreamBody = DELTA + "data: {broken\n\n";
+
+        StepVerifier.create(chatService.streamChatResponse(request("어떤 기술 스택을 쓰나요?"), "k"))
+                .expectNextMatches(e -> "답변".equals(e.getText()))
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(cachedAnswers()).isEmpty();
+    }
+
+    @Test
+    void cancelledStreamIsNotCached() {
+        upstreamHangs = true;
+
+        StepVerifier.create(chatService.streamChatResponse(request("어떤 기술 스택을 쓰나요?"), "k"))
+                .expectNextMatches(e -> "답변".equals(e.getText()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(cachedAnswers()).isEmpty();
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("chat.answer.cache.requests").tag("result", result).counter().count();
+    }
+
+    private Map<Object, Object> cachedAnswers() {
+        return ((ConcurrentMapCache) cacheManager.getCache(ChatAnswerCache.CACHE_NAME)).getNativeCache();
+    }
+
+    private static ChatRequestDto request(String question) {
+        ChatRequestDto request = new ChatRequestDto();
+        request.setNewMessage(question);
+        return request;
+    }
+}
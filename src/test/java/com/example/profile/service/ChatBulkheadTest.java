@@ -0,0 +1,309 @@
+package com.example.profile.service;
+
+import com.example.profile.config.ChatStreamConfig;
+import com.example.profile.dto.ChatStreamEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.scheduler.Scheduler;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 업스트림 호출은 TestPublisher로 대신하고, 구독(= 슬롯 획득)/취소 여부와 status 이벤트, 지표로 스케줄링을 확인
+class ChatBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatBulkhead bulkhead;
+    private Scheduler sseWriter;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = new ChatBulkhead(meterRegistry);
+        sseWriter = ChatStreamConfig.newSseScheduler(4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseWriter.dispose();
+    }
+
+    // 컨트롤러와 같은 run(...).publishOn(..., SSE_PREFETCH) 체인에서 느린 클라이언트의 배압이 업스트림까지 전달되는지
+    @Test
+    void slowClientBoundsUpstreamDemand() throws InterruptedException {
+        TestPublisher<ChatStreamEvent> upstream = TestPublisher.create(); // 요청량보다 많이 보내면 실패하는 publisher
+        SlowClient client = new SlowClient();
+        bulkhead.run("1.1.1.1", upstream.flux())
+                .publishOn(sseWriter, ChatStreamConfig.SSE_PREFETCH)
+                .subscribe(client);
+
+        upstream.assertWasSubscribed();
+        upstream.assertMaxRequested(ChatStreamConfig.SSE_PREFETCH);
+        for (int i = 0; i < ChatStreamConfig.SSE_PREFETCH; i++) {
+            upstream.next(ChatStreamEvent.delta("chunk-" + i));
+        }
+        assertThat(client.received.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 클라이언트가 하나밖에 못 받았으므로 버퍼가 찬 뒤로는 더 요청하지 않음
+        upstream.assertMaxRequested(0);
+        assertThat(client.events).hasSize(1);
+
+        client.dispose();
+        upstream.assertWasCancelled();
+    }
+
+    @Test
+    void queuedRequestGetsBoundedDemandOnceAdmitted() throws InterruptedException {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        TestPublisher<ChatStreamEvent> running = TestPublisher.create();
+        bulkhead.run("1.1.1.1", running.flux()).subscribe();
+
+        TestPublisher<ChatStreamEvent> waiting = TestPublisher.create();
+        SlowClient client = new SlowClient();
+        bulkhead.run("2.2.2.2", waiting.flux())
+                .publishOn(sseWriter, ChatStreamConfig.SSE_PREFETCH)
+                .subscribe(client);
+
+        assertThat(client.received.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(client.events).singleElement()
+                .satisfies(e -> assertThat(e.getStatus()).isEqualTo(ChatStreamEvent.QUEUED));
+        waiting.assertWasNotSubscribed();
+
+        running.complete();
+
+        waiting.assertWasSubscribed();
+        waiting.assertMaxRequested(ChatStreamConfig.SSE_PREFETCH);
+        client.dispose();
+        waiting.assertWasCancelled();
+    }
+
+    @Test
+    void runsImmediatelyBelowLimitAndReleasesOnCompletion() {
+        TestPublisher<ChatStreamEvent> upstream = TestPublisher.create();
+        Client client = call("1.1.1.1", upstream);
+
+        upstream.assertWasSubscribed();
+        assertThat(active()).isEqualTo(1);
+        upstream.next(ChatStreamEvent.delta("hi")).complete();
+
+        assertThat(client.events).extracting(ChatStreamEvent::getText).containsExactly("hi");
+        assertThat(client.isDisposed()).isTrue();
+        assertThat(active()).isZero();
+        assertThat(counter("chat.bulkhead.requests", "admission", "immediate")).isEqualTo(1);
+    }
+
+    @Test
+    void admitsQueuedClientsRoundRobin() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        TestPublisher<ChatStreamEvent> running = TestPublisher.create();
+        call("0.0.0.0", running);
+
+        TestPublisher<ChatStreamEvent> a1 = TestPublisher.create();
+        TestPublisher<ChatStreamEvent> a2 = TestPublisher.create();
+        TestPublisher<ChatStreamEvent> b1 = TestPublisher.create();
+        Client clientA1 = call("A", a1);
+        Client clientA2 = call("A", a2);
+        Client clientB1 = call("B", b1);
+
+        // A가 먼저 두 개를 넣었어도 B의 첫 요청이 A의 두 번째 요청보다 앞섬
+        assertThat(positions(clientA1)).containsExactly(1);
+        assertThat(positions(clientA2)).containsExactly(2, 3);
+        assertThat(positions(clientB1)).containsExactly(2);
+        assertThat(queued()).isEqualTo(3);
+
+        running.complete();
+        a1.assertWasSubscribed();
+        b1.assertWasNotSubscribed();
+        assertThat(positions(clientB1)).containsExactly(2, 1);
+        assertThat(positions(clientA2)).containsExactly(2, 3, 2);
+
+        a1.complete();
+        b1.assertWasSubscribed();
+        a2.assertWasNotSubscribed();
+
+        b1.complete();
+        a2.assertWasSubscribed();
+        assertThat(queued()).isZero();
+        assertThat(active()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenClientQueueIsFull() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        call("0.0.0.0", TestPublisher.create());
+        call("A", TestPublisher.create());
+        call("A", TestPublisher.create());
+
+        TestPublisher<ChatStreamEvent> third = TestPublisher.create();
+        Client rejected = call("A", third);
+        Client otherClient = call("B", TestPublisher.create());
+
+        assertRejected(rejected);
+        third.assertWasNotSubscribed();
+        assertThat(positions(otherClient)).containsExactly(2); // 다른 클라이언트는 여전히 대기 가능 (A의 두 요청 사이에 끼어듦)
+        assertThat(counter("chat.bulkhead.rejected", "reason", "queue_full")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenGlobalQueueIsFull() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(bulkhead, "maxQueue", 2);
+        call("0.0.0.0", TestPublisher.create());
+        call("A", TestPublisher.create());
+        call("B", TestPublisher.create());
+
+        Client rejected = call("C", TestPublisher.create());
+
+        assertRejected(rejected);
+        assertThat(queued()).isEqualTo(2);
+        assertThat(counter("chat.bulkhead.rejected", "reason", "queue_full")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsAfterWaitingTooLong() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        ReflectionTestUtils.setField(bulkhead, "maxWait", Duration.ofMillis(100));
+        TestPublisher<ChatStreamEvent> running = TestPublisher.create();
+        call("0.0.0.0", running);
+        TestPublisher<ChatStreamEvent> waiting = TestPublisher.create();
+
+        StepVerifier.create(bulkhead.run("A", waiting.flux()))
+                .assertNext(e -> assertThat(e.getPosition()).isEqualTo(1))
+                .assertNext(e -> assertThat(e.getStatus()).isEqualTo(ChatStreamEvent.REJECTED))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(queued()).isZero();
+        assertThat(counter("chat.bulkhead.rejected", "reason", "timeout")).isEqualTo(1);
+        running.complete();
+        waiting.assertWasNotSubscribed();
+        assertThat(active()).isZero();
+    }
+
+    @Test
+    void cancellingRunningStreamReleasesSlotToNextWaiter() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        TestPublisher<ChatStreamEvent> running = TestPublisher.create();
+        Client runningClient = call("0.0.0.0", running);
+        TestPublisher<ChatStreamEvent> waiting = TestPublisher.create();
+        call("A", waiting);
+
+        runningClient.dispose(); // 브라우저가 답변 도중 탭을 닫음
+
+        running.assertWasCancelled();
+        waiting.assertWasSubscribed();
+        assertThat(active()).isEqualTo(1);
+        assertThat(queued()).isZero();
+    }
+
+    @Test
+    void failingStreamReleasesSlot() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        TestPublisher<ChatStreamEvent> running = TestPublisher.create();
+        Client client = call("0.0.0.0", running);
+
+        running.error(new IllegalStateException("upstream 503"));
+
+        assertThat(client.error).hasMessage("upstream 503");
+        assertThat(active()).isZero();
+        TestPublisher<ChatStreamEvent> next = TestPublisher.create();
+        call("A", next);
+        next.assertWasSubscribed();
+    }
+
+    @Test
+    void cancellingQueuedRequestFreesItsPlaceAndMovesOthersUp() {
+        ReflectionTestUtils.setField(bulkhead, "maxConcurrent", 1);
+        TestPublisher<ChatStreamEvent> running = TestPublisher.create();
+        call("0.0.0.0", running);
+        TestPublisher<ChatStreamEvent> leaving = TestPublisher.create();
+        Client leavingClient = call("A", leaving);
+        Client stayingClient = call("B", TestPublisher.create());
+
+        leavingClient.dispose();
+
+        assertThat(positions(stayingClient)).containsExactly(2, 1);
+        assertThat(queued()).isEqualTo(1);
+        running.complete();
+        leaving.assertWasNotSubscribed();
+        assertThat(active()).isEqualTo(1); // 떠난 요청이 아니라 남은 요청이 슬롯을 받음
+        assertThat(queued()).isZero();
+    }
+
+    private Client call(String clientKey, TestPublisher<ChatStreamEvent> upstream) {
+        Client client = new Client();
+        bulkhead.run(clientKey, upstream.flux()).subscribe(client);
+        return client;
+    }
+
+    private static List<Integer> positions(Client client) {
+        return client.events.stream()
+                .filter(e -> ChatStreamEvent.QUEUED.equals(e.getStatus()))
+                .map(ChatStreamEvent::getPosition)
+                .toList();
+    }
+
+    private static void assertRejected(Client client) {
+        assertThat(client.events).singleElement()
+                .satisfies(e -> assertThat(e.getStatus()).isEqualTo(ChatStreamEvent.REJECTED));
+        assertThat(client.isDisposed()).isTrue();
+    }
+
+    private double active() {
+        return meterRegistry.get("chat.bulkhead.active").gauge().value();
+    }
+
+    private double queued() {
+        return meterRegistry.get("chat.bulkhead.queued").gauge().value();
+    }
+
+    private double counter(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+
+    // 받는 대로 모두 읽는 브라우저
+    private static class Client extends BaseSubscriber<ChatStreamEvent> {
+
+        private final List<ChatStreamEvent> events = new CopyOnWriteArrayList<>();
+        private volatile Throwable error;
+
+        @Override
+        protected void hookOnNext(ChatStreamEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+
+    // 처음 하나만 요청하고 더 이상 읽지 않는 브라우저
+    private static class SlowClient extends BaseSubscriber<ChatStreamEvent> {
+
+        private final List<ChatStreamEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(1);
+        }
+
+        @Override
+        protected void hookOnNext(ChatStreamEvent event) {
+            events.add(event);
+            received.countDown();
+        }
+    }
+}
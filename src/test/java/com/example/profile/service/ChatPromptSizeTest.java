@@ -0,0 +1,155 @@
+package com.example.profile.service;
+
+import com.example.profile.SyntheticProfiles;
+import com.example.profile.dto.ChatRequestDto;
+import com.example.profile.dto.ProfileResponseDTO;
+import com.example.profile.dto.ProfileWrapper;
+import com.example.profile.model.ProfileMaster;
+import com.example.profile.repository.ProfileMasterRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// 로컬 스텁 모델 API로 실제 요청 본문을 받아 JSON / 텍스트 개요 / 검색 발췌 system prompt 크기를 비교
+class ChatPromptSizeTest {
+
+    private static final String QUESTION = "가장 최근 프로젝트에서 해결한 문제는?";
+    private static final String STUB_RESPONSE = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"ok\"}]}}]}\n\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final AtomicReference<byte[]> lastRequestBody = new AtomicReference<>();
+
+    private HttpServer stub;
+    private FrontProfileService frontProfileService;
+    private ProfileMaster master;
+    private ProfileResponseDTO snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody()) {
+                lastRequestBody.set(in.readAllBytes());
+            }
+            byte[] response = STUB_RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        stub.start();
+
+        master = SyntheticProfiles.large(4, 5, 3);
+        master.setId(1L);
+        ProfileMasterRepository repo = mock(ProfileMasterRepository.class);
+        given(repo.findActiveProfileGraph()).willReturn(Optional.of(master));
+        snapshot = new FrontProfileService(repo).getPublicProfile();
+
+        frontProfileService = mock(FrontProfileService.class);
+        given(frontProfileService.getPublicProfile()).willReturn(snapshot);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    @Test
+    void outlinePromptIsMuchSmallerThanJson() throws IOException {
+        String jsonPrompt = sendAndCaptureSystemPrompt(ChatPromptCache.PromptFormat.JSON, QUESTION);
+        String outlinePrompt = sendAndCaptureSystemPrompt(ChatPromptCache.PromptFormat.OUTLINE, QUESTION);
+
+        String legacyPrompt = ChatPromptCache.PERSONA + objectMapper.writeValueAsString(legacyWrapper());
+
+        // 같은 내용을 담고 있어야 함
+        assertThat(outlinePrompt)
+                .contains(snapshot.getFullName())
+                .contains("Company 3 Project 4")
+                .contains("* 문제 2: 피크 시간대 DB 커넥션 고갈")
+                .contains("성과 2: p99 응답시간 850ms -> 120ms")
+                .contains("Skill-3-7")
+                .contains("정보처리기사 1");
+        assertThat(estimateTokens(outlinePrompt)).isLessThan(estimateTokens(jsonPrompt));
+        assertThat(estimateTokens(outlinePrompt) * 3).isLessThan(estimateTokens(legacyPrompt) * 2);
+    }
+
+    @Test
+    void retrievalPromptSendsOnlyRelevantPassages() throws IOException {
+        String outlinePrompt = sendAndCaptureSystemPrompt(ChatPromptCache.PromptFormat.OUTLINE, QUESTION);
+        String retrievalPrompt = sendAndCaptureSystemPrompt(ChatPromptCache.PromptFormat.RETRIEVAL,
+                "Company 3 Project 4에서 DB 커넥션 문제는 어떻게 해결했나요?");
+
+        // 요약 개요(프로젝트 목록/기간/기술)는 항상, 문제/해결/성과는 질문과 관련된 것만
+        assertThat(retrievalPrompt)
+                .contains(snapshot.getFullName())
+                .contains("#### Company 1 Project 1")
+                .contains("Skill-3-7")
+                .contains(PortfolioRetriever.HEADER)
+                .contains("[Company 3 > Company 3 Project 4] 문제: 문제 1: 피크 시간대 DB 커넥션 고갈")
+                .doesNotContain("[Company 1 > Company 1 Project 1] 문제:");
+        assertThat(estimateTokens(retrievalPrompt) * 2).isLessThan(estimateTokens(outlinePrompt));
+    }
+
+    // 스냅샷 도입 이전처럼 엔티티 그대로(id, sortOrder, isVisible, itemType, null 필드 포함) 직렬화한 경우
+    private ProfileWrapper legacyWrapper() {
+        ProfileWrapper wrapper = new ProfileWrapper();
+        wrapper.setProfileId(master.getId());
+        wrapper.setProfileTitle(master.getTitle());
+        wrapper.setConfig(master.getConfig());
+        wrapper.setSections(master.getSections());
+        wrapper.setKeyRoles(master.getKeyRoles());
+        wrapper.setSkillCategories(master.getSkillCategories());
+        wrapper.setCompanies(master.getCompanies());
+        wrapper.setEducations(master.getEducations());
+        wrapper.setCertifications(master.getCertifications());
+        return wrapper;
+    }
+
+    private String sendAndCaptureSystemPrompt(ChatPromptCache.PromptFormat format, String question) throws IOException {
+        ChatPromptCache promptCache = new ChatPromptCache(objectMapper, new PortfolioPromptRenderer(), new PortfolioRetriever());
+        ReflectionTestUtils.setField(promptCache, "promptFormat", format);
+
+        ChatAnswerCache answerCache = new ChatAnswerCache(new ConcurrentMapCacheManager(), new SimpleMeterRegistry());
+        GeminiChatService chatService = new GeminiChatService(frontProfileService, objectMapper, promptCache, answerCache,
+                new ChatBulkhead(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(chatService, "geminiApiKey", "test-key");
+        ReflectionTestUtils.setField(chatService, "geminiBaseUrl", "http://127.0.0.1:" + stub.getAddress().getPort());
+        chatService.initWebClient();
+
+        ChatRequestDto request = new ChatRequestDto();
+        request.setNewMessage(question);
+        chatService.streamChatResponse(request, "127.0.0.1").collectList().block();
+
+        JsonNode body = objectMapper.readTree(lastRequestBody.get());
+        StringBuilder prompt = new StringBuilder();
+        body.path("system_instruction").path("parts").forEach(part -> prompt.append(part.path("text").asText()));
+        return prompt.toString();
+    }
+
+    // 대략적인 토큰 수: 한글 음절은 1토큰, 나머지(영문/숫자/기호/JSON 구문)는 4글자당 1토큰
+    private static long estimateTokens(String s) {
+        long hangul = s.codePoints().filter(c -> c >= 0xAC00 && c <= 0xD7A3).count();
+        long other = s.length() - hangul;
+        return hangul + (other + 3) / 4;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ContactInfoDTO;
+import com.example.profile.dto.ProfileResponseDTO;
+import com.example.profile.repository.ProfileConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ContactInfoServiceTest {
+
+    private static final ContactInfoDTO OLD = new ContactInfoDTO("010-1111-1111", "old@example.com");
+    private static final ContactInfoDTO NEW = new ContactInfoDTO("010-2222-2222", "new@example.com");
+
+    private final ProfileConfigRepository configRepo = mock(ProfileConfigRepository.class);
+    private final FrontProfileService frontProfileService = mock(FrontProfileService.class);
+    private ContactInfoService service;
+
+    @BeforeEach
+    void setUp() {
+        given(frontProfileService.getPublicProfile())
+                .willReturn(ProfileResponseDTO.builder().profileId(1L).version("1-1000").build());
+        service = new ContactInfoService(configRepo, frontProfileService);
+    }
+
+    @Test
+    void servesRepeatedRevealsFromCache() {
+        given(configRepo.findContactInfo(1L)).willReturn(Optional.of(OLD));
+
+        assertThat(service.getContactInfo(1L)).isEqualTo(OLD);
+        assertThat(service.getContactInfo(1L)).isEqualTo(OLD);
+
+        verify(configRepo, times(1)).findContactInfo(1L);
+    }
+
+    @Test
+    void committedChangeIsVisibleImmediately() {
+        given(configRepo.findContactInfo(1L)).willReturn(Optional.of(OLD), Optional.of(NEW));
+        assertThat(service.getContactInfo(1L)).isEqualTo(OLD);
+
+        // 스냅샷 재생성 전이라 버전은 그대로여도 커밋 이벤트만으로 새 값을 읽음
+        service.onPortfolioChanged(new PortfolioChangedEvent(1L));
+
+        assertThat(service.getContactInfo(1L)).isEqualTo(NEW);
+    }
+
+    @Test
+    void loadStartedBeforeCommitDoesNotLeaveStaleValue() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        given(configRepo.findContactInfo(1L))
+                .willAnswer(invocation -> {
+                    // 커밋 전 값을 읽은 채로, 커밋 후 무효화가 끝날 때까지 멈춰 있음
+                    loading.countDown();
+                    assertThat(commit.await(5, TimeUnit.SECONDS)).isTrue();
+                    return Optional.of(OLD);
+                })
+                .willReturn(Optional.of(NEW));
+
+        CompletableFuture<ContactInfoDTO> slowLoad = CompletableFuture.supplyAsync(() -> service.getContactInfo(1L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        service.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        commit.countDown();
+        assertThat(slowLoad.get(5, TimeUnit.SECONDS)).isEqualTo(OLD);
+
+        assertThat(service.getContactInfo(1L)).isEqualTo(NEW);
+    }
+
+    @Test
+    void missingProfileIsCachedAsEmpty() {
+        given(configRepo.findContactInfo(2L)).willReturn(Optional.empty());
+
+        assertThat(service.getContactInfo(2L)).isEqualTo(ContactInfoDTO.EMPTY);
+        assertThat(service.getContactInfo(2L)).isEqualTo(ContactInfoDTO.EMPTY);
+
+        verify(configRepo, times(1)).findContactInfo(2L);
+    }
+}
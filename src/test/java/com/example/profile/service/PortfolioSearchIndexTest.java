@@ -0,0 +1,118 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한글/영문/기술 용어가 섞인 질문에서 관련 passage가 앞에 오는지, 발췌 개수/길이 제한이 지켜지는지
+class PortfolioSearchIndexTest {
+
+    private static final String PROBLEM = "[네이버 > 주문 플랫폼] 문제: 결제 승인 지연";
+
+    private final ProfileResponseDTO profile = ProfileResponseDTO.builder()
+            .version("1-1000")
+            .keyRole(KeyRoleDTO.builder()
+                    .roleContent("Spring Boot 기반 결제 시스템 설계 및 운영, " + "대규모 트래픽 처리 ".repeat(20))
+                    .build())
+            .skillCategory(SkillCategoryDTO.builder().name("Backend").skill("Java").skill("Spring Boot").skill("JPA").build())
+            .skillCategory(SkillCategoryDTO.builder().name("Languages").skill("Kotlin").skill("C#").build())
+            .skillCategory(SkillCategoryDTO.builder().name("Embedded").skill("C").skill("Assembly").build())
+            .projectGroup(ProjectGroupDTO.builder()
+                    .groupName("네이버")
+                    .project(ProjectDTO.builder()
+                            .title("주문 플랫폼")
+                            .projectItem(ProjectItemDTO.builder().itemType("SUMMARY").content("주문 처리 서버 개편").build())
+                            .projectItem(ProjectItemDTO.builder().itemType("TECH_STACK_GROUP")
+                                    .techStack("Spring Boot").techStack("Redis").build())
+                            .projectItem(ProjectItemDTO.builder().itemType("CONTENT_GROUP")
+                                    .content("대용량 트래픽 대응")
+                                    .problem(ProblemDTO.builder()
+                                            .title("결제 승인 지연")
+                                            .solution("Redis 캐시 도입")
+                                            .impact("응답 시간 80% 단축")
+                                            .build())
+                                    .build())
+                            .build())
+                    .project(ProjectDTO.builder()
+                            .title("사내 도구")
+                            .projectItem(ProjectItemDTO.builder().itemType("SUMMARY")
+                                    .content("C# 기반 .NET 데스크톱 앱 유지보수").build())
+                            .build())
+                    .build())
+            .build();
+
+    private final PortfolioSearchIndex index = PortfolioSearchIndex.build(profile);
+
+    @Test
+    void tokenizesHangulAsBigramsAndLatinAsWords() {
+        assertThat(PortfolioSearchIndex.tokenize("Spring Boot로 결제시스템을 만들었다"))
+                .containsExactly("spring", "boot", "로", "결제", "제시", "시스", "스템", "템을", "만들", "들었", "었다");
+        // 한 글자 언어 이름의 기호는 유지, 전각 문자는 NFKC로 정규화
+        assertThat(PortfolioSearchIndex.tokenize("C#과 C++, .NET 6 그리고 ＪＰＡ"))
+                .containsExactly("c#", "과", "c++", "net", "6", "그리", "리고", "jpa");
+    }
+
+    @Test
+    void problemPassageRanksFirstForRelatedQuestion() {
+        List<PortfolioSearchIndex.Passage> hits = index.search("결제 승인이 느렸던 문제는 어떻게 해결했나요?", 8);
+
+        assertThat(hits).isNotEmpty();
+        assertThat(hits.get(0).getText()).startsWith(PROBLEM).contains("해결: Redis 캐시 도입");
+    }
+
+    @Test
+    void techTermsMatchAcrossSections() {
+        assertThat(texts(index.search("Spring Boot 경험", 8)))
+                .anySatisfy(t -> assertThat(t).startsWith("[핵심 역할]"))
+                .anySatisfy(t -> assertThat(t).startsWith("[기술 스택] Backend"))
+                .anySatisfy(t -> assertThat(t).startsWith("[네이버 > 주문 플랫폼] 기술 스택"));
+
+        // C#은 C와 다른 용어
+        assertThat(texts(index.search("C#", 8)))
+                .anySatisfy(t -> assertThat(t).startsWith("[기술 스택] Languages"))
+                .anySatisfy(t -> assertThat(t).startsWith("[네이버 > 사내 도구]"))
+                .noneSatisfy(t -> assertThat(t).startsWith("[기술 스택] Embedded"));
+    }
+
+    @Test
+    void searchRespectsLimitAndSkipsUnrelatedQueries() {
+        assertThat(index.search("Spring Boot", 1)).hasSize(1);
+        assertThat(index.search("Spring Boot", 8).size()).isGreaterThan(1);
+        assertThat(index.search("Haskell", 8)).isEmpty();
+        assertThat(index.search("?!", 8)).isEmpty();
+    }
+
+    @Test
+    void retrieverKeepsTopKPassages() {
+        PortfolioRetriever retriever = new PortfolioRetriever();
+        ReflectionTestUtils.setField(retriever, "topK", 1);
+
+        String passages = retriever.relevantPassages(profile, "Spring Boot");
+
+        assertThat(passages).startsWith(PortfolioRetriever.HEADER);
+        assertThat(passages.substring(PortfolioRetriever.HEADER.length()).lines()).hasSize(1);
+    }
+
+    @Test
+    void retrieverSkipsPassagesThatExceedMaxChars() {
+        PortfolioRetriever retriever = new PortfolioRetriever();
+        ReflectionTestUtils.setField(retriever, "maxChars", PortfolioRetriever.HEADER.length() + 60);
+
+        // 긴 핵심 역할 passage는 건너뛰고 뒤의 짧은 후보로 채움
+        String passages = retriever.relevantPassages(profile, "Spring Boot");
+        assertThat(passages).isNotNull().doesNotContain("[핵심 역할]").contains("Spring Boot");
+        assertThat(passages.length()).isLessThanOrEqualTo(PortfolioRetriever.HEADER.length() + 60);
+
+        ReflectionTestUtils.setField(retriever, "maxChars", PortfolioRetriever.HEADER.length() + 5);
+        assertThat(retriever.relevantPassages(profile, "Spring Boot")).isNull();
+        assertThat(retriever.relevantPassages(profile, "Haskell")).isNull();
+    }
+
+    private static List<String> texts(List<PortfolioSearchIndex.Passage> hits) {
+        return hits.stream().map(PortfolioSearchIndex.Passage::getText).toList();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ProfileResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 연달아 저장된 두 변경의 재생성 중 먼저 시작한 쪽이 늦게 끝나도 새 스냅샷이 캐시에 남는지 확인
+class PortfolioSnapshotRefresherTest {
+
+    @Test
+    void slowerOlderRebuildDoesNotOverwriteNewerSnapshot() throws Exception {
+        ProfileResponseDTO older = ProfileResponseDTO.builder().profileId(1L).version("1-1000").build();
+        ProfileResponseDTO newer = ProfileResponseDTO.builder().profileId(1L).version("1-2000").build();
+
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        FrontProfileService frontProfileService = mock(FrontProfileService.class);
+        given(frontProfileService.rebuildPublicProfile())
+                .willAnswer(invocation -> {
+                    // 첫 번째 재생성: 두 번째 저장이 커밋되기 전 데이터를 읽고 멈춰 있음
+                    firstStarted.countDown();
+                    assertThat(releaseFirst.await(5, TimeUnit.SECONDS)).isTrue();
+                    return older;
+                })
+                .willReturn(newer);
+
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("portfolio");
+        PortfolioSnapshotRefresher refresher = new PortfolioSnapshotRefresher(frontProfileService, cacheManager);
+
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        releaseFirst.countDown();
+        refresher.destroy(); // 대기 중인 재생성까지 모두 끝날 때까지 기다림
+
+        Cache.ValueWrapper cached = cacheManager.getCache("portfolio").get("activeProfile");
+        assertThat(cached).isNotNull();
+        assertThat(((ProfileResponseDTO) cached.get()).getVersion()).isEqualTo(newer.getVersion());
+    }
+
+    @Test
+    void rebuildsQueuedBehindANewerEventAreSkipped() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        FrontProfileService frontProfileService = mock(FrontProfileService.class);
+        given(frontProfileService.rebuildPublicProfile())
+                .willAnswer(invocation -> {
+                    firstStarted.countDown();
+                    assertThat(releaseFirst.await(5, TimeUnit.SECONDS)).isTrue();
+                    return ProfileResponseDTO.builder().version("1-1000").build();
+                })
+                .willReturn(ProfileResponseDTO.builder().version("1-3000").build());
+
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("portfolio");
+        PortfolioSnapshotRefresher refresher = new PortfolioSnapshotRefresher(frontProfileService, cacheManager);
+
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        refresher.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        releaseFirst.countDown();
+        refresher.destroy();
+
+        // 첫 번째(진행 중) + 마지막 한 번만 실제로 읽음
+        verify(frontProfileService, times(2)).rebuildPublicProfile();
+        assertThat(((ProfileResponseDTO) cacheManager.getCache("portfolio").get("activeProfile").get()).getVersion())
+                .isEqualTo("1-3000");
+    }
+}
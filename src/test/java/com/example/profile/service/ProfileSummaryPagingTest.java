@@ -0,0 +1,91 @@
+package com.example.profile.service;
+
+import com.example.profile.dto.ProfileSummaryDTO;
+import com.example.profile.dto.ProfileSummaryPage;
+import com.example.profile.model.ProfileMaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 관리자 목록 키셋 페이지네이션: 수정일이 없는 이력서도 마지막 페이지까지 빠짐없이 한 번씩 나와야 함
+// 페이지 경계가 같은 수정일 묶음과 수정일 없는 묶음 한가운데에 걸리도록 PROFILE_PAGE_SIZE보다 많이 저장
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.auto_quote_keyword=true")
+@Import(AdminProfileService.class)
+class ProfileSummaryPagingTest {
+
+    private static final int PAGE_SIZE = AdminProfileService.PROFILE_PAGE_SIZE;
+
+    @Autowired
+    private AdminProfileService service;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void pagesThroughProfilesWithoutModifiedDate() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<Long> distinctDates = new ArrayList<>();
+        List<Long> sameDate = new ArrayList<>();
+        List<Long> noDate = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            distinctDates.add(persist("dated-" + i, base.plusDays(30 + i)));
+        }
+        for (int i = 0; i < 10; i++) {
+            sameDate.add(persist("same-date-" + i, base.plusDays(1)));
+        }
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            noDate.add(persist("no-date-" + i, null));
+        }
+        em.flush();
+        em.clear();
+
+        List<ProfileSummaryPage> pages = new ArrayList<>();
+        ProfileSummaryPage page = service.getProfileSummaries(null, null);
+        pages.add(page);
+        while (page.isHasNext()) {
+            assertThat(page.getNextBeforeDate()).isNotNull();
+            page = service.getProfileSummaries(page.getNextBeforeDate(), page.getNextBeforeId());
+            pages.add(page);
+        }
+
+        assertThat(pages).extracting(p -> p.getItems().size()).containsExactly(PAGE_SIZE, PAGE_SIZE, 5);
+
+        // 최근 수정순, 같은 수정일은 id 역순, 수정일 없는 이력서는 맨 뒤(id 역순)
+        List<Long> expected = new ArrayList<>();
+        expected.addAll(distinctDates.reversed());
+        expected.addAll(sameDate.reversed());
+        expected.addAll(noDate.reversed());
+        assertThat(pages.stream().flatMap(p -> ids(p).stream()).toList()).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void singlePageHasNoCursor() {
+        persist("only", LocalDateTime.of(2026, 1, 1, 9, 0));
+        em.flush();
+        em.clear();
+
+        ProfileSummaryPage page = service.getProfileSummaries(null, null);
+
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getItems()).hasSize(1);
+    }
+
+    private static List<Long> ids(ProfileSummaryPage page) {
+        return page.getItems().stream().map(ProfileSummaryDTO::getId).toList();
+    }
+
+    private Long persist(String title, LocalDateTime lastModified) {
+        ProfileMaster profile = new ProfileMaster();
+        profile.setTitle(title);
+        profile.setLastModifiedDate(lastModified);
+        return em.persistAndGetId(profile, Long.class);
+    }
+}